@@ -0,0 +1,81 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH summaries written by BenchmarkRunner.
+ * 
+ * Prints the score and allocation change of every benchmark present in both
+ * summaries, keyed on benchmark, parameters and thread count. With a threshold,
+ * exits with status 1 if any score got worse by more than that percentage
+ * (slower for time modes, fewer operations for throughput).
+ * Run with: java scripts/JmhCompare.java <baseline.csv> <current.csv> [max-regression-percent]
+ */
+public class JmhCompare {
+    
+    private static final String THROUGHPUT_MODE = "thrpt";
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: java scripts/JmhCompare.java <baseline.csv> <current.csv> [max-regression-percent]");
+            System.exit(2);
+        }
+        Map<String, String[]> baseline = read(Path.of(args[0]));
+        Map<String, String[]> current = read(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : Double.NaN;
+        
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s %12s %12s%n",
+                          "Benchmark", "Baseline", "Current", "Change", "Base B/op", "Curr B/op");
+        for (Map.Entry<String, String[]> entry : current.entrySet()) {
+            String[] base = baseline.get(entry.getKey());
+            String[] now = entry.getValue();
+            if (base == null) {
+                System.out.printf(Locale.ROOT, "%-90s %14s %14.3f %9s%n", label(now), "-", score(now), "new");
+                continue;
+            }
+            double change = (score(now) - score(base)) / score(base) * 100.0;
+            // Positive when the benchmark got worse
+            double regression = THROUGHPUT_MODE.equals(now[3]) ? -change : change;
+            boolean failed = !Double.isNaN(threshold) && regression > threshold;
+            if (failed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-90s %14.3f %14.3f %+8.1f%% %12s %12s%s%n", label(now),
+                              score(base), score(now), change, base[7], now[7], failed ? "  REGRESSION" : "");
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf(Locale.ROOT, "%-90s %14.3f %14s %9s%n", label(baseline.get(key)),
+                                  score(baseline.get(key)), "-", "missing");
+            }
+        }
+        
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d benchmarks regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+    
+    private static Map<String, String[]> read(Path summary) throws Exception {
+        List<String> lines = Files.readAllLines(summary);
+        Map<String, String[]> rows = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(",", -1);
+            rows.put(fields[0] + "," + fields[1] + "," + fields[2], fields);
+        }
+        return rows;
+    }
+    
+    private static String label(String[] fields) {
+        String name = fields[0].substring(fields[0].lastIndexOf('.', fields[0].lastIndexOf('.') - 1) + 1);
+        return name + (fields[1].isEmpty() ? "" : " [" + fields[1] + "]") + " x" + fields[2] + " " + fields[6];
+    }
+    
+    private static double score(String[] fields) {
+        return Double.parseDouble(fields[4]);
+    }
+}
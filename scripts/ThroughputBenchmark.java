@@ -0,0 +1,102 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop throughput benchmark for POST /factorial.
+ * 
+ * Starts the given number of concurrent clients on virtual threads, each sending
+ * requests back to back, and reports throughput and latency percentiles.
+ * Run with: java scripts/ThroughputBenchmark.java <base-url> <concurrency> <seconds>
+ */
+public class ThroughputBenchmark {
+    
+    private static final int WARMUP_SECONDS = 5;
+    
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/factorial"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("number=10"))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        
+        run(client, request, concurrency, WARMUP_SECONDS, false);
+        run(client, request, concurrency, seconds, true);
+        System.exit(0);
+    }
+    
+    private static void run(HttpClient client, HttpRequest request, int concurrency, int seconds, boolean report)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> perClient = new ArrayList<>();
+        long started = System.nanoTime();
+        
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                synchronized (perClient) {
+                    perClient.add(null);
+                }
+                int index = c;
+                clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    synchronized (perClient) {
+                        perClient.set(index, Arrays.copyOf(latencies, count));
+                    }
+                });
+            }
+        }
+        
+        if (!report) {
+            return;
+        }
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        long[] all = perClient.stream().filter(l -> l != null).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("concurrency=%d requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+                          concurrency, all.length, errors.get(), all.length / elapsed,
+                          percentile(all, 0.50), percentile(all, 0.99), all.length > 0 ? all[all.length - 1] / 1e6 : 0.0);
+    }
+    
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
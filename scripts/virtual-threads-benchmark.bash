@@ -0,0 +1,32 @@
+#!/bin/bash
+# Compares request throughput with platform-thread and virtual-thread request handling.
+# Usage: ./scripts/virtual-threads-benchmark.bash [concurrency] [seconds]
+
+set -euo pipefail
+
+CONCURRENCY=${1:-1000}
+SECONDS_PER_RUN=${2:-20}
+PORT=18090
+JAR=$(ls target/factorial-calculator-*.jar 2>/dev/null | head -n 1 || true)
+
+if [ -z "$JAR" ]; then
+    mvn -q package -DskipTests
+    JAR=$(ls target/factorial-calculator-*.jar | head -n 1)
+fi
+
+for VIRTUAL in false true; do
+    java -Xmx512m -jar "$JAR" --server.port=$PORT --spring.threads.virtual.enabled=$VIRTUAL \
+        --logging.level.root=WARN > "target/benchmark-virtual-$VIRTUAL.log" 2>&1 &
+    APP_PID=$!
+    trap 'kill $APP_PID 2>/dev/null || true' EXIT
+
+    until curl -s -o /dev/null "http://localhost:$PORT/"; do
+        sleep 0.5
+    done
+
+    echo "virtual threads: $VIRTUAL"
+    java scripts/ThroughputBenchmark.java "http://localhost:$PORT" "$CONCURRENCY" "$SECONDS_PER_RUN"
+
+    kill $APP_PID
+    wait $APP_PID 2>/dev/null || true
+done
@@ -0,0 +1,123 @@
+package com.techfrompalestine.factorialcalculator;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the JMH benchmarks with the GC profiler and writes the results.
+ *
+ * Without benchmark patterns on the command line, every benchmark runs on one
+ * thread and the ResponseTimeService benchmarks are repeated for each thread
+ * count of -Djmh.threads (default 1,4,16,64). Other JMH options, e.g.
+ * {@code -wi 1 -i 2}, are passed through.
+ *
+ * Writes the raw JMH results to {@code target/jmh/results.json} and a sorted
+ * one-line-per-benchmark summary with score and allocation per operation to
+ * {@code target/jmh/summary.csv}; the summary is what baselines are kept as and
+ * what {@code scripts/JmhCompare.java} compares.
+ */
+public final class BenchmarkRunner {
+
+    private static final String CONTENDED_BENCHMARKS = "service.ResponseTimeServiceBenchmark";
+    private static final String GROUP_BENCHMARKS = CONTENDED_BENCHMARKS + ".mixed";
+    private static final String DEFAULT_THREADS = "1,4,16,64";
+    private static final Path OUTPUT_DIRECTORY = Path.of("target", "jmh");
+
+    // Secondary result of the GC profiler: bytes allocated per operation
+    private static final String ALLOCATION_RESULT = "gc.alloc.rate.norm";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        List<RunResult> results = new ArrayList<>();
+
+        if (!commandLine.getIncludes().isEmpty()) {
+            results.addAll(run(options(commandLine)));
+        } else {
+            results.addAll(run(options(commandLine).exclude(CONTENDED_BENCHMARKS).threads(1)));
+            for (int threads : threadCounts()) {
+                ChainedOptionsBuilder contended = options(commandLine).include(CONTENDED_BENCHMARKS).threads(threads);
+                if (threads < 4) {
+                    // The mixed group needs four threads, one full group
+                    contended.exclude(GROUP_BENCHMARKS);
+                }
+                results.addAll(run(contended));
+            }
+        }
+
+        Files.createDirectories(OUTPUT_DIRECTORY);
+        try (PrintStream out = new PrintStream(OUTPUT_DIRECTORY.resolve("results.json").toFile(),
+                                               StandardCharsets.UTF_8)) {
+            ResultFormatFactory.getInstance(ResultFormatType.JSON, out).writeOut(results);
+        }
+        Files.write(OUTPUT_DIRECTORY.resolve("summary.csv"), summary(results), StandardCharsets.UTF_8);
+        System.out.println("Benchmark results written to " + OUTPUT_DIRECTORY.toAbsolutePath());
+    }
+
+    private static ChainedOptionsBuilder options(CommandLineOptions commandLine) {
+        return new OptionsBuilder().parent(commandLine).addProfiler(GCProfiler.class);
+    }
+
+    private static Collection<RunResult> run(ChainedOptionsBuilder options) throws RunnerException {
+        return new Runner(options.build()).run();
+    }
+
+    private static int[] threadCounts() {
+        return Arrays.stream(System.getProperty("jmh.threads", DEFAULT_THREADS).split(","))
+                     .map(String::trim)
+                     .mapToInt(Integer::parseInt)
+                     .toArray();
+    }
+
+    /**
+     * Summarizes the results as sorted CSV lines, one per benchmark, parameter set and thread count.
+     */
+    private static List<String> summary(List<RunResult> results) {
+        Map<String, String> lines = new TreeMap<>();
+        for (RunResult runResult : results) {
+            BenchmarkResult result = runResult.getAggregatedResult();
+            var params = runResult.getParams();
+            StringBuilder paramList = new StringBuilder();
+            for (String key : params.getParamsKeys()) {
+                paramList.append(paramList.isEmpty() ? "" : ";").append(key).append('=').append(params.getParam(key));
+            }
+            String key = String.join(",", params.getBenchmark(), paramList, Integer.toString(params.getThreads()));
+            // Orders thread counts numerically
+            String sortKey = String.format(Locale.ROOT, "%s,%s,%05d", params.getBenchmark(), paramList,
+                                           params.getThreads());
+            Result<?> primary = result.getPrimaryResult();
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_RESULT);
+            lines.put(sortKey, String.format(Locale.ROOT, "%s,%s,%.3f,%.3f,%s,%.1f", key, params.getMode().shortLabel(),
+                                         primary.getScore(), primary.getScoreError(), primary.getScoreUnit(),
+                                         allocation == null ? Double.NaN : allocation.getScore()));
+        }
+        List<String> summary = new ArrayList<>();
+        summary.add("benchmark,params,threads,mode,score,error,unit,alloc_bytes_per_op");
+        summary.addAll(lines.values());
+        return summary;
+    }
+}
@@ -0,0 +1,62 @@
+package com.techfrompalestine.factorialcalculator.config;
+
+import com.techfrompalestine.factorialcalculator.service.TokenValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the per-request connection token check, with its verdict
+ * cache hit and missed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenConfigBenchmark {
+
+    private static final String VALID_TOKEN = "test-token-123";
+
+    private TokenValidationService validationService;
+    private String[] unseenTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        TokenConfig tokenConfig = new TokenConfig();
+        ReflectionTestUtils.setField(tokenConfig, "configuredToken", VALID_TOKEN);
+        ReflectionTestUtils.setField(tokenConfig, "currentEnvironment", "dev");
+        tokenConfig.initialize();
+
+        validationService = new TokenValidationService(tokenConfig, "", false, 1024);
+        validationService.initialize();
+
+        // More distinct tokens than cache slots, so that each one evicts an earlier verdict
+        unseenTokens = new String[4096];
+        for (int i = 0; i < unseenTokens.length; i++) {
+            unseenTokens[i] = "test-token-" + i;
+        }
+    }
+
+    @Benchmark
+    public boolean headerCacheHit() {
+        return validationService.isValid(VALID_TOKEN);
+    }
+
+    @Benchmark
+    public boolean headerCacheMiss() {
+        next = (next + 1) & (unseenTokens.length - 1);
+        return validationService.isValid(unseenTokens[next]);
+    }
+}
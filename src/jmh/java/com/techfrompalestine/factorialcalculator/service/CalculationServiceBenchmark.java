@@ -0,0 +1,95 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.strategy.IterativeFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.ParallelFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.PrimeSwingFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.RecursiveFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.SplitRecursiveFactorialStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of CalculationService.factorial: strategy dispatch,
+ * validation and the audit log producer path.
+ *
+ * The factorial cache is disabled so that every invocation calculates, and
+ * the audit events are drained into a sink that discards them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculationServiceBenchmark {
+
+    // The iterative strategy is a stub returning -1, so it is not measured
+    @Param({"recursive:20", "prime-swing:1000", "parallel:10000"})
+    private String strategyAndNumber;
+
+    private ForkJoinPool pool;
+    private CalculationAuditLog auditLog;
+    private CalculationService service;
+    private int number;
+
+    @Setup
+    public void setUp() {
+        String[] parts = strategyAndNumber.split(":");
+        number = Integer.parseInt(parts[1]);
+
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        auditLog = new CalculationAuditLog(true, 8192, 1.0, 0, 256, 1, new DiscardingSink());
+        auditLog.initialize();
+        FactorialCache cache = new FactorialCache(pool, MultiplicationKernel.STANDARD,
+                new FactorialCheckpointStore(false, "unused", 0, 0, false), false, 0);
+        service = new CalculationService(
+                new IterativeFactorialStrategy(),
+                new RecursiveFactorialStrategy(),
+                new SplitRecursiveFactorialStrategy(),
+                new PrimeSwingFactorialStrategy(),
+                new ParallelFactorialStrategy(pool, MultiplicationKernel.STANDARD, 2048),
+                cache,
+                MultiplicationKernel.STANDARD,
+                auditLog);
+        ReflectionTestUtils.setField(service, "strategyType", parts[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        auditLog.close();
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public BigInteger factorial() throws InterruptedException {
+        return service.factorial(number);
+    }
+
+    /**
+     * Sink that drops drained events, so the benchmark does not measure the appender.
+     */
+    private static class DiscardingSink implements CalculationAuditLog.EventSink {
+        @Override
+        public void calculation(String strategy, int number, long epochMillis) {
+        }
+
+        @Override
+        public void batch(String strategy, int count, int largest, long epochMillis) {
+        }
+    }
+}
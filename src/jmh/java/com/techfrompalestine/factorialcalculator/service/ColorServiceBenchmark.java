@@ -0,0 +1,49 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of badge color hashing, through the public lookup since the
+ * hash itself is private.
+ *
+ * With a cache size of 0 every lookup hashes, which measures the hash mode;
+ * otherwise the lookup is a map hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColorServiceBenchmark {
+
+    @Param({"sha256", "fast"})
+    private String hashMode;
+
+    @Param({"0", "256"})
+    private int cacheSize;
+
+    private ColorService colorService;
+
+    @Setup
+    public void setUp() {
+        // Nothing prefilled, so with a cache size of 0 the lookup always misses
+        colorService = new ColorService(hashMode, cacheSize, null, null, null);
+    }
+
+    @Benchmark
+    public String colorForEnv() {
+        return colorService.getColorForEnv("prod");
+    }
+}
@@ -0,0 +1,89 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of recording and reading response times on one shared service,
+ * as every request thread does.
+ *
+ * The thread count comes from the run options, so the same benchmarks measure
+ * contention from 1 to 64 threads; BenchmarkRunner sweeps that range. The
+ * mixed group pairs recording threads with a reader, like requests and the
+ * metrics endpoint. With more threads than cores the reader can be starved for
+ * long, so iterations are cut off after a minute.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Timeout(time = 1, timeUnit = TimeUnit.MINUTES)
+public class ResponseTimeServiceBenchmark {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private ResponseTimeService service;
+
+    @Setup
+    public void setUp() {
+        service = new ResponseTimeService(100);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10_000; i++) {
+            service.addResponseTime(random.nextDouble(0.0001, 0.5));
+        }
+    }
+
+    @Benchmark
+    public void addResponseTime() {
+        service.addResponseTime(ThreadLocalRandom.current().nextDouble(0.0001, 0.5));
+    }
+
+    @Benchmark
+    public double averageResponseTime() {
+        return service.getAverageResponseTime();
+    }
+
+    @Benchmark
+    public double maxResponseTime() {
+        return service.getMaxResponseTime();
+    }
+
+    @Benchmark
+    public double percentileResponseTime() {
+        return service.getPercentileResponseTime(99.0);
+    }
+
+    @Benchmark
+    public long percentileResponseTimes() {
+        return service.getPercentileResponseTimes(PERCENTILES, new long[PERCENTILES.length]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public void mixedAdd() {
+        service.addResponseTime(ThreadLocalRandom.current().nextDouble(0.0001, 0.5));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public double mixedRead() {
+        return service.getAverageResponseTime() + service.getPercentileResponseTime(99.0);
+    }
+}
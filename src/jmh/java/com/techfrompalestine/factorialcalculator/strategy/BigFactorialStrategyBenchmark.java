@@ -0,0 +1,66 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the BigInteger strategies from small to large inputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigFactorialStrategyBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int number;
+
+    private SplitRecursiveFactorialStrategy splitRecursive;
+    private PrimeSwingFactorialStrategy primeSwing;
+    private ParallelFactorialStrategy parallel;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        splitRecursive = new SplitRecursiveFactorialStrategy(MultiplicationKernel.STANDARD);
+        primeSwing = new PrimeSwingFactorialStrategy(MultiplicationKernel.STANDARD);
+        parallel = new ParallelFactorialStrategy(pool, MultiplicationKernel.STANDARD, 2048);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public BigInteger splitRecursive() {
+        return splitRecursive.calculate(number);
+    }
+
+    @Benchmark
+    public BigInteger primeSwing() {
+        return primeSwing.calculate(number);
+    }
+
+    @Benchmark
+    public BigInteger parallel() {
+        return parallel.calculate(number);
+    }
+}
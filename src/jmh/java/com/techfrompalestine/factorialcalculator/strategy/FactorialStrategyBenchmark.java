@@ -0,0 +1,37 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the long-valued strategies across their whole input range.
+ * The iterative strategy is a stub returning -1 and is left out until it is
+ * implemented, since its timing would only measure the constant return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactorialStrategyBenchmark {
+
+    @Param({"5", "12", "20"})
+    private int number;
+
+    private final RecursiveFactorialStrategy recursive = new RecursiveFactorialStrategy();
+
+    @Benchmark
+    public long recursive() {
+        return recursive.calculate(number);
+    }
+}
@@ -0,0 +1,307 @@
+package com.techfrompalestine.factorialcalculator.load;
+
+import com.techfrompalestine.factorialcalculator.FactorialCalculatorApplication;
+import com.techfrompalestine.factorialcalculator.load.RequestMix.Endpoint;
+import com.techfrompalestine.factorialcalculator.metrics.LatencyHistogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Open-loop load generator for {@code POST /factorial}, {@code GET /} and
+ * {@code GET /properties}.
+ *
+ * Starts the application in this JVM on an ephemeral localhost port (or targets
+ * {@code --url}), warms it up and drives it at a constant arrival rate with the
+ * configured endpoint mix and input sizes. Reports coordinated-omission-corrected
+ * and service-time percentiles per endpoint and writes the corrected percentile
+ * distribution to {@code target/load/}. With {@code --find-max} it instead raises
+ * the rate step by step to find the highest one that still meets the p99 objective.
+ *
+ * Options, all {@code --name=value}; anything else is passed to the application:
+ * rate (200/s), duration (30s), warmup (10s), endpoints (factorial:80,index:15,properties:5),
+ * inputs (1-20), url, max-in-flight (2000), find-max, slo-p99 (1s), max-rate (20000), save-baseline,
+ * baseline and max-regression (20 percent).
+ */
+public final class LoadGenerator {
+
+    // Options of the generator; every other argument is passed to the application
+    private static final List<String> OPTIONS = List.of("rate", "duration", "warmup", "endpoints", "inputs", "url",
+            "max-in-flight", "find-max", "slo-p99", "max-rate", "save-baseline", "baseline", "max-regression");
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load");
+
+    // Percentiles shown in the summary and written as the distribution
+    private static final double[] SUMMARY_PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final double[] DISTRIBUTION_PERCENTILES = {
+        0.0, 50.0, 75.0, 87.5, 90.0, 93.75, 96.875, 99.0, 99.5, 99.9, 99.95, 99.99, 100.0
+    };
+
+    // Sustainable throughput search: growth per step and bisection rounds between the last pass and the first failure
+    private static final double RATE_GROWTH = 1.5;
+    private static final int REFINEMENT_STEPS = 3;
+    private static final double MAX_ERROR_RATIO = 0.01;
+    private static final double MIN_ACHIEVED_RATIO = 0.95;
+
+    private static final String TOTAL = "total";
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            String name = arg.startsWith("--") ? arg.substring(2).split("=", 2)[0] : "";
+            if (OPTIONS.contains(name)) {
+                options.put(name, arg.contains("=") ? arg.substring(arg.indexOf('=') + 1) : "true");
+            } else if (!arg.isBlank()) {
+                applicationArgs.add(arg);
+            }
+        }
+
+        ConfigurableApplicationContext application = null;
+        URI baseUri;
+        if (options.containsKey("url")) {
+            baseUri = URI.create(options.get("url"));
+        } else {
+            if (applicationArgs.stream().noneMatch(arg -> arg.startsWith("--logging.level.root="))) {
+                // Request logging would compete with the load for the same CPUs
+                applicationArgs.add("--logging.level.root=WARN");
+            }
+            applicationArgs.add("--server.port=0");
+            applicationArgs.add("--server.address=127.0.0.1");
+            application = new SpringApplicationBuilder(FactorialCalculatorApplication.class)
+                    .run(applicationArgs.toArray(new String[0]));
+            baseUri = URI.create("http://127.0.0.1:" + application.getEnvironment().getProperty("local.server.port"));
+        }
+
+        int status;
+        try {
+            status = run(options, baseUri);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(status);
+    }
+
+    private static int run(Map<String, String> options, URI baseUri) throws InterruptedException, IOException {
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s"));
+        RequestMix mix = new RequestMix(baseUri, options.getOrDefault("endpoints", "factorial:80,index:15,properties:5"),
+                                        options.getOrDefault("inputs", "1-20"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "2000"));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        System.out.printf(Locale.ROOT, "Target %s, %s%n", baseUri, mix);
+        if (!warmup.isZero()) {
+            System.out.printf(Locale.ROOT, "Warming up for %ds at %.0f/s%n", warmup.toSeconds(), rate);
+            new OpenLoopRun(client, mix, rate, warmup, maxInFlight).execute();
+        }
+
+        if (options.containsKey("find-max")) {
+            findMaxRate(client, mix, rate, duration, maxInFlight, options);
+            return 0;
+        }
+
+        OpenLoopRun.Result result = new OpenLoopRun(client, mix, rate, duration, maxInFlight).execute();
+        report(result);
+        writeDistribution(result);
+
+        Map<String, Long> p99 = p99ByEndpoint(result);
+        if (options.containsKey("save-baseline")) {
+            saveBaseline(Path.of(options.get("save-baseline")), rate, mix, p99);
+        }
+        if (options.containsKey("baseline")) {
+            double maxRegression = Double.parseDouble(options.getOrDefault("max-regression", "20"));
+            return checkBaseline(Path.of(options.get("baseline")), rate, mix, p99, maxRegression, result.errorRatio());
+        }
+        return 0;
+    }
+
+    /**
+     * Raises the rate until the p99 objective, the error budget or the arrival rate is missed,
+     * then bisects between the last passing and the first failing rate.
+     */
+    private static void findMaxRate(HttpClient client, RequestMix mix, double startRate, Duration duration,
+                                    int maxInFlight, Map<String, String> options) throws InterruptedException {
+        long sloNanos = DurationStyle.detectAndParse(options.getOrDefault("slo-p99", "1s")).toNanos();
+        double maxRate = Double.parseDouble(options.getOrDefault("max-rate", "20000"));
+        double passed = 0;
+        double failed = 0;
+
+        System.out.printf(Locale.ROOT, "Searching the highest rate with corrected p99 <= %.1fms%n", sloNanos / 1e6);
+        for (double rate = startRate; rate <= maxRate; rate *= RATE_GROWTH) {
+            if (sustainable(new OpenLoopRun(client, mix, rate, duration, maxInFlight).execute(), sloNanos)) {
+                passed = rate;
+            } else {
+                failed = rate;
+                break;
+            }
+        }
+        for (int i = 0; i < REFINEMENT_STEPS && passed > 0 && failed > 0; i++) {
+            double rate = (passed + failed) / 2;
+            if (sustainable(new OpenLoopRun(client, mix, rate, duration, maxInFlight).execute(), sloNanos)) {
+                passed = rate;
+            } else {
+                failed = rate;
+            }
+        }
+
+        if (passed == 0) {
+            System.out.printf(Locale.ROOT, "Not sustainable even at %.0f/s%n", startRate);
+        } else {
+            System.out.printf(Locale.ROOT, "Max sustainable throughput: %.0f/s%s%n", passed,
+                              failed == 0 ? " (max-rate reached)" : "");
+        }
+    }
+
+    private static boolean sustainable(OpenLoopRun.Result result, long sloNanos) {
+        long p99 = result.total(true).valueAtPercentile(99.0);
+        double errorRatio = result.errorRatio();
+        double achieved = result.achievedRate();
+        boolean pass = p99 <= sloNanos && errorRatio <= MAX_ERROR_RATIO
+                       && achieved >= result.targetRate() * MIN_ACHIEVED_RATIO;
+        System.out.printf(Locale.ROOT, "  %8.0f/s: achieved %8.1f/s, p99 %9.2fms, errors %5.2f%%, dispatch lag %.1fms -> %s%n",
+                          result.targetRate(), achieved, p99 / 1e6, errorRatio * 100,
+                          result.maxDispatchLagNanos() / 1e6, pass ? "ok" : "over");
+        return pass;
+    }
+
+    private static void report(OpenLoopRun.Result result) {
+        System.out.printf(Locale.ROOT, "%nRate %.0f/s for %.1fs: %d requests, %.1f/s succeeded, %d errors, %d dropped, "
+                          + "max dispatch lag %.1fms%n",
+                          result.targetRate(), result.elapsedNanos() / 1e9, result.issued(), result.achievedRate(),
+                          result.errors(), result.dropped(), result.maxDispatchLagNanos() / 1e6);
+        System.out.printf(Locale.ROOT, "%-12s %-12s %9s %9s %9s %9s %9s %9s  (ms)%n",
+                          "endpoint", "latency", "count", "p50", "p90", "p99", "p99.9", "max");
+        for (Map.Entry<Endpoint, OpenLoopRun.EndpointStats> entry : result.stats().entrySet()) {
+            printRow(entry.getKey().getLabel(), "corrected", entry.getValue().corrected.snapshot());
+            printRow(entry.getKey().getLabel(), "service", entry.getValue().uncorrected.snapshot());
+        }
+        printRow(TOTAL, "corrected", result.total(true));
+        printRow(TOTAL, "service", result.total(false));
+    }
+
+    private static void printRow(String endpoint, String kind, LatencyHistogram.Snapshot snapshot) {
+        StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%-12s %-12s %9d", endpoint, kind,
+                                                            snapshot.getTotalCount()));
+        for (double percentile : SUMMARY_PERCENTILES) {
+            row.append(String.format(Locale.ROOT, " %9.2f", snapshot.valueAtPercentile(percentile) / 1e6));
+        }
+        row.append(String.format(Locale.ROOT, " %9.2f", snapshot.getMaxValue() / 1e6));
+        System.out.println(row);
+    }
+
+    /**
+     * Writes the corrected and service-time percentile distribution of every endpoint as CSV.
+     */
+    private static void writeDistribution(OpenLoopRun.Result result) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,latency,percentile,millis");
+        Map<String, LatencyHistogram.Snapshot[]> snapshots = new LinkedHashMap<>();
+        result.stats().forEach((endpoint, stats) -> snapshots.put(endpoint.getLabel(),
+                new LatencyHistogram.Snapshot[] {stats.corrected.snapshot(), stats.uncorrected.snapshot()}));
+        snapshots.put(TOTAL, new LatencyHistogram.Snapshot[] {result.total(true), result.total(false)});
+        for (Map.Entry<String, LatencyHistogram.Snapshot[]> entry : snapshots.entrySet()) {
+            for (int kind = 0; kind < 2; kind++) {
+                for (double percentile : DISTRIBUTION_PERCENTILES) {
+                    lines.add(String.format(Locale.ROOT, "%s,%s,%s,%.3f", entry.getKey(),
+                                            kind == 0 ? "corrected" : "service", percentile,
+                                            entry.getValue()[kind].valueAtPercentile(percentile) / 1e6));
+                }
+            }
+        }
+        Files.createDirectories(REPORT_DIRECTORY);
+        Path file = REPORT_DIRECTORY.resolve("latency-distribution.csv");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        System.out.println("Latency distribution written to " + file.toAbsolutePath());
+    }
+
+    private static Map<String, Long> p99ByEndpoint(OpenLoopRun.Result result) {
+        Map<String, Long> p99 = new LinkedHashMap<>();
+        result.stats().forEach((endpoint, stats) -> p99.put(endpoint.getLabel(),
+                                                            stats.corrected.snapshot().valueAtPercentile(99.0)));
+        p99.put(TOTAL, result.total(true).valueAtPercentile(99.0));
+        return p99;
+    }
+
+    private static void saveBaseline(Path file, double rate, RequestMix mix, Map<String, Long> p99) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Corrected p99 latencies of an open-loop load test, written by LoadGenerator");
+        lines.add(String.format(Locale.ROOT, "rate=%.0f", rate));
+        lines.add("mix=" + mix);
+        p99.forEach((endpoint, nanos) -> lines.add(String.format(Locale.ROOT, "p99.%s=%.3f", endpoint, nanos / 1e6)));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        System.out.println("Baseline written to " + file);
+    }
+
+    /**
+     * Compares the corrected p99 of every endpoint with the baseline and checks the
+     * error budget of the sustainable throughput search.
+     *
+     * @return 1 if any endpoint regressed by more than the allowed percentage or too
+     *         many requests failed or were dropped, otherwise 0
+     */
+    private static int checkBaseline(Path file, double rate, RequestMix mix, Map<String, Long> p99,
+                                     double maxRegression, double errorRatio) throws IOException {
+        Map<String, String> baseline = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int equals = line.indexOf('=');
+            if (!line.startsWith("#") && equals > 0) {
+                baseline.put(line.substring(0, equals).trim(), line.substring(equals + 1).trim());
+            }
+        }
+        if (!String.format(Locale.ROOT, "%.0f", rate).equals(baseline.get("rate"))
+                || !mix.toString().equals(baseline.get("mix"))) {
+            System.out.printf(Locale.ROOT, "Warning: baseline was taken at rate=%s %s%n",
+                              baseline.get("rate"), baseline.get("mix"));
+        }
+
+        int regressions = 0;
+        for (Map.Entry<String, Long> entry : p99.entrySet()) {
+            String expected = baseline.get("p99." + entry.getKey());
+            if (expected == null) {
+                continue;
+            }
+            double baselineMillis = Double.parseDouble(expected);
+            double currentMillis = entry.getValue() / 1e6;
+            boolean regressed = currentMillis > baselineMillis * (1 + maxRegression / 100);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "p99 %-12s baseline %9.2fms current %9.2fms%s%n", entry.getKey(),
+                              baselineMillis, currentMillis, regressed ? "  REGRESSION" : "");
+        }
+        boolean overBudget = errorRatio > MAX_ERROR_RATIO;
+        System.out.printf(Locale.ROOT, "errors and drops %.2f%%, budget %.2f%%%s%n", errorRatio * 100,
+                          MAX_ERROR_RATIO * 100, overBudget ? "  OVER BUDGET" : "");
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d p99 latencies regressed by more than %.0f%%%n", regressions, maxRegression);
+        }
+        return regressions > 0 || overBudget ? 1 : 0;
+    }
+}
@@ -0,0 +1,219 @@
+package com.techfrompalestine.factorialcalculator.load;
+
+import com.techfrompalestine.factorialcalculator.load.RequestMix.Endpoint;
+import com.techfrompalestine.factorialcalculator.metrics.LatencyHistogram;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One open-loop run at a constant arrival rate.
+ *
+ * Request i is due at start + i / rate regardless of how earlier requests fare:
+ * a single dispatcher waits for each due time and hands the request to a new
+ * virtual thread, so a slow server never slows the arrivals down. Every successful
+ * response is recorded twice, once from its due time (corrected for coordinated
+ * omission: the queueing a closed-loop client would hide) and once from the moment
+ * it was actually sent (service time only). Failed requests are recorded in the
+ * corrected latencies too, from their due time until the failure, so shedding
+ * load cannot improve the percentiles.
+ *
+ * Requests due while the in-flight limit is reached are not sent but counted as
+ * dropped, and recorded in the corrected latencies at the highest trackable value
+ * since they are never answered. An overloaded server thus fails the run instead of
+ * exhausting the client.
+ */
+public final class OpenLoopRun {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient client;
+    private final RequestMix mix;
+    private final double rate;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Creates a run.
+     *
+     * @param client The HTTP client, shared between runs
+     * @param mix The endpoints and inputs to send
+     * @param rate The arrival rate in requests per second
+     * @param duration How long requests are issued
+     * @param maxInFlight The most requests awaiting a response at once
+     */
+    public OpenLoopRun(HttpClient client, RequestMix mix, double rate, Duration duration, int maxInFlight) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + rate);
+        }
+        this.client = client;
+        this.mix = mix;
+        this.rate = rate;
+        this.duration = duration;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    /**
+     * Issues the requests and waits for the outstanding responses.
+     *
+     * @return The latencies and counts per endpoint
+     * @throws InterruptedException if interrupted while dispatching
+     */
+    public Result execute() throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.getEndpoints()) {
+            stats.putIfAbsent(endpoint, new EndpointStats());
+        }
+        SplittableRandom random = new SplittableRandom();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long lagNanos = 0;
+        long issued = 0;
+        long dispatchNanos;
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                long due = start + (long) (issued * intervalNanos);
+                if (due >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                lagNanos = Math.max(lagNanos, System.nanoTime() - due);
+
+                Endpoint endpoint = mix.nextEndpoint(random);
+                HttpRequest request = mix.request(endpoint, random);
+                EndpointStats endpointStats = stats.get(endpoint);
+                issued++;
+                if (inFlight.get() >= maxInFlight) {
+                    endpointStats.dropped.increment();
+                    endpointStats.corrected.record(HIGHEST_TRACKABLE_NANOS);
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                requests.execute(() -> send(request, due, endpointStats));
+            }
+            dispatchNanos = System.nanoTime() - start;
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(rate, issued, dispatchNanos, elapsed, lagNanos, stats);
+    }
+
+    private void send(HttpRequest request, long due, EndpointStats stats) {
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long done = System.nanoTime();
+            if (response.statusCode() >= 400) {
+                fail(due, stats);
+                return;
+            }
+            stats.corrected.record(done - due);
+            stats.uncorrected.record(done - sent);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(due, stats);
+        } catch (Exception e) {
+            fail(due, stats);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void fail(long due, EndpointStats stats) {
+        stats.errors.increment();
+        stats.corrected.record(System.nanoTime() - due);
+    }
+
+    /**
+     * Latencies in nanoseconds, error and drop counts of one endpoint.
+     * The corrected latencies cover every issued request, the service times only
+     * successful ones.
+     */
+    static final class EndpointStats {
+        final LatencyHistogram corrected = new LatencyHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final LatencyHistogram uncorrected = new LatencyHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+    }
+
+    /**
+     * Outcome of a run.
+     *
+     * @param targetRate The requested arrival rate per second
+     * @param issued The number of requests due, sent or dropped
+     * @param dispatchNanos Time from the first to the last request sent
+     * @param elapsedNanos Time from the first request to the last response
+     * @param maxDispatchLagNanos Largest delay of the dispatcher behind schedule
+     * @param stats Latencies per endpoint
+     */
+    public record Result(double targetRate, long issued, long dispatchNanos, long elapsedNanos,
+                         long maxDispatchLagNanos, Map<Endpoint, EndpointStats> stats) {
+
+        /**
+         * Gets the latency snapshot of all endpoints together.
+         *
+         * @param corrected true for latencies from the due time, false from the send time
+         * @return The merged snapshot
+         */
+        public LatencyHistogram.Snapshot total(boolean corrected) {
+            LatencyHistogram.Snapshot merged = null;
+            for (EndpointStats endpointStats : stats.values()) {
+                LatencyHistogram.Snapshot snapshot = (corrected ? endpointStats.corrected : endpointStats.uncorrected).snapshot();
+                merged = merged == null ? snapshot : merged.merge(snapshot);
+            }
+            return merged;
+        }
+
+        /**
+         * Gets the number of requests sent that failed or got an error status.
+         */
+        public long errors() {
+            return stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+        }
+
+        /**
+         * Gets the number of requests not sent because the in-flight limit was reached.
+         */
+        public long dropped() {
+            return stats.values().stream().mapToLong(s -> s.dropped.sum()).sum();
+        }
+
+        /**
+         * Gets the share of issued requests that failed or were dropped.
+         *
+         * @return The ratio, 0 to 1
+         */
+        public double errorRatio() {
+            return issued == 0 ? 0 : (double) (errors() + dropped()) / issued;
+        }
+
+        /**
+         * Gets the rate of successful requests over the time taken to send them.
+         * Falls short of the target when requests fail or the dispatcher cannot keep up.
+         *
+         * @return Successful requests per second
+         */
+        public double achievedRate() {
+            return total(false).getTotalCount() / (Math.max(dispatchNanos, 1) / 1e9);
+        }
+    }
+}
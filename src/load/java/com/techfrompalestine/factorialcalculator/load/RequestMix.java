@@ -0,0 +1,175 @@
+package com.techfrompalestine.factorialcalculator.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted mix of endpoints and factorial input sizes driven by the load generator.
+ *
+ * The endpoint mix is written as {@code factorial:80,index:15,properties:5} and the
+ * input distribution as weighted inclusive ranges, e.g. {@code 1-20:90,100-1000:10};
+ * a range is sampled uniformly once it is picked.
+ */
+public final class RequestMix {
+
+    /**
+     * Endpoints the load generator can call.
+     */
+    public enum Endpoint {
+        FACTORIAL("factorial"),
+        INDEX("index"),
+        PROPERTIES("properties");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        static Endpoint fromLabel(String label) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.label.equalsIgnoreCase(label)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("Unknown endpoint '" + label + "', expected factorial, index or properties");
+        }
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String endpointSpec;
+    private final String inputSpec;
+    private final Endpoint[] endpoints;
+    private final int[] endpointWeights;
+    private final int[][] inputRanges;
+    private final int[] inputWeights;
+    private final URI factorialUri;
+    private final URI indexUri;
+    private final URI propertiesUri;
+
+    /**
+     * Parses the mix.
+     *
+     * @param baseUri The base URI of the application, e.g. http://localhost:8080
+     * @param endpointSpec The endpoint weights
+     * @param inputSpec The input range weights
+     * @throws IllegalArgumentException if a specification is malformed
+     */
+    public RequestMix(URI baseUri, String endpointSpec, String inputSpec) {
+        this.endpointSpec = endpointSpec;
+        this.inputSpec = inputSpec;
+
+        List<String[]> endpointEntries = entries(endpointSpec);
+        this.endpoints = new Endpoint[endpointEntries.size()];
+        this.endpointWeights = new int[endpointEntries.size()];
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = Endpoint.fromLabel(endpointEntries.get(i)[0]);
+            endpointWeights[i] = cumulative(endpointWeights, i, endpointEntries.get(i)[1]);
+        }
+
+        List<String[]> inputEntries = entries(inputSpec);
+        this.inputRanges = new int[inputEntries.size()][];
+        this.inputWeights = new int[inputEntries.size()];
+        for (int i = 0; i < inputRanges.length; i++) {
+            String[] bounds = inputEntries.get(i)[0].split("-");
+            int low = Integer.parseInt(bounds[0].trim());
+            int high = bounds.length > 1 ? Integer.parseInt(bounds[1].trim()) : low;
+            if (low < 0 || high < low) {
+                throw new IllegalArgumentException("Invalid input range '" + inputEntries.get(i)[0] + "'");
+            }
+            inputRanges[i] = new int[] {low, high};
+            inputWeights[i] = cumulative(inputWeights, i, inputEntries.get(i)[1]);
+        }
+
+        this.factorialUri = baseUri.resolve("/factorial");
+        this.indexUri = baseUri.resolve("/");
+        this.propertiesUri = baseUri.resolve("/properties");
+    }
+
+    /**
+     * Picks the endpoint of the next request.
+     *
+     * @param random The caller's random source
+     * @return The endpoint
+     */
+    public Endpoint nextEndpoint(SplittableRandom random) {
+        return endpoints[pick(endpointWeights, random)];
+    }
+
+    /**
+     * Builds a request to an endpoint; factorial requests get an input drawn from the distribution.
+     *
+     * @param endpoint The endpoint to call
+     * @param random The caller's random source
+     * @return The request
+     */
+    public HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        return switch (endpoint) {
+            case FACTORIAL -> {
+                int[] range = inputRanges[pick(inputWeights, random)];
+                int number = range[0] == range[1] ? range[0] : random.nextInt(range[0], range[1] + 1);
+                yield HttpRequest.newBuilder(factorialUri)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("number=" + number))
+                        .timeout(REQUEST_TIMEOUT)
+                        .build();
+            }
+            case INDEX -> HttpRequest.newBuilder(indexUri).GET().timeout(REQUEST_TIMEOUT).build();
+            case PROPERTIES -> HttpRequest.newBuilder(propertiesUri).GET().timeout(REQUEST_TIMEOUT).build();
+        };
+    }
+
+    /**
+     * Gets the endpoints in the mix.
+     *
+     * @return The endpoints, in specification order
+     */
+    public Endpoint[] getEndpoints() {
+        return endpoints.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "endpoints=%s inputs=%s", endpointSpec, inputSpec);
+    }
+
+    private static List<String[]> entries(String spec) {
+        List<String[]> entries = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            int colon = entry.lastIndexOf(':');
+            if (colon < 0) {
+                entries.add(new String[] {entry.trim(), "1"});
+            } else {
+                entries.add(new String[] {entry.substring(0, colon).trim(), entry.substring(colon + 1).trim()});
+            }
+        }
+        return entries;
+    }
+
+    private static int cumulative(int[] weights, int index, String weight) {
+        int value = Integer.parseInt(weight);
+        if (value <= 0) {
+            throw new IllegalArgumentException("Weights must be positive: " + weight);
+        }
+        return (index == 0 ? 0 : weights[index - 1]) + value;
+    }
+
+    private static int pick(int[] cumulativeWeights, SplittableRandom random) {
+        int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= target) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -1,5 +1,6 @@
 package com.techfrompalestine.factorialcalculator;
 
+import com.techfrompalestine.factorialcalculator.service.StartupMilestoneService;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -33,6 +34,7 @@ public class FactorialCalculatorApplication {
     }
 
     public static void main(String[] args) {
+        StartupMilestoneService.markMainStarted();
         System.setProperty("file.encoding", StandardCharsets.UTF_8.name());
         SpringApplication.run(FactorialCalculatorApplication.class, args);
     }
@@ -0,0 +1,54 @@
+package com.techfrompalestine.factorialcalculator.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import com.techfrompalestine.factorialcalculator.latency.HashedWheelTimer;
+
+/**
+ * Configuration of the executors used for calculation work and timers.
+ * 
+ * Large factorials are computed on a dedicated fork/join pool so that the
+ * reduction never runs on, or competes for, the servlet request threads.
+ * Simulated response delays complete on a single hashed-wheel timer thread.
+ */
+@Configuration
+public class ExecutorConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorConfig.class);
+    
+    private static final String FACTORIAL_THREAD_PREFIX = "factorial-fj-";
+    private static final String LATENCY_TIMER_THREAD = "latency-timer";
+    
+    /**
+     * Fork/join pool for parallel factorial product trees.
+     * Parallelism is sized from the app.resources.cpu property.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool factorialForkJoinPool(@Value("${app.resources.cpu:1}") int cpuResources) {
+        int parallelism = Math.max(1, cpuResources);
+        logger.info("Factorial fork/join pool initialized with parallelism: {}", parallelism);
+        
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(FACTORIAL_THREAD_PREFIX + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+    
+    /**
+     * Shared timer completing delayed responses.
+     * The tick is the delay resolution; one wheel rotation covers tick times wheel size.
+     */
+    @Bean(destroyMethod = "stop")
+    public HashedWheelTimer latencyTimer(@Value("${app.latency.timer.tick-ms:5}") long tickMillis,
+                                         @Value("${app.latency.timer.wheel-size:512}") int wheelSize) {
+        logger.info("Latency timer initialized with tick: {}ms, wheel size: {}", tickMillis, wheelSize);
+        return new HashedWheelTimer(LATENCY_TIMER_THREAD, tickMillis, TimeUnit.MILLISECONDS, wheelSize);
+    }
+}
@@ -0,0 +1,61 @@
+package com.techfrompalestine.factorialcalculator.config;
+
+import com.techfrompalestine.factorialcalculator.service.StartupMilestoneService;
+import com.techfrompalestine.factorialcalculator.service.StartupMilestoneService.Milestone;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Records the first response the application completes as a startup milestone.
+ *
+ * Asynchronous requests such as the delayed calculations count once their
+ * response is complete, not when the handler returns. After the first request
+ * the filter only reads one flag.
+ */
+@Component
+public class StartupMilestoneFilter extends OncePerRequestFilter {
+
+    private final StartupMilestoneService startupMilestoneService;
+
+    public StartupMilestoneFilter(StartupMilestoneService startupMilestoneService) {
+        this.startupMilestoneService = startupMilestoneService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(request, response);
+        if (startupMilestoneService.isReached(Milestone.FIRST_REQUEST_SERVED)) {
+            return;
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    startupMilestoneService.markRequestServed();
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        } else {
+            startupMilestoneService.markRequestServed();
+        }
+    }
+}
@@ -40,6 +40,9 @@ public class TokenConfig {
     
     private final Map<String, String> decodedTokenCache = new ConcurrentHashMap<>();
     
+    // Neither the configured token nor the environment change at runtime
+    private boolean configuredTokenValid;
+    
     /**
      * Initializes the configuration and validates the environment setup.
      * Called automatically after bean construction.
@@ -48,6 +51,7 @@ public class TokenConfig {
     public void initialize() {
         validateEnvironmentConfiguration();
         preloadTokenCache();
+        configuredTokenValid = validateConfiguredToken();
         logConfigurationStatus();
     }
     
@@ -94,17 +98,25 @@ public class TokenConfig {
     
     /**
      * Validates the configured token against the expected token for the current environment.
+     * The verdict is computed once at startup.
      * 
      * @return true if the connection is valid, false otherwise
      */
     public boolean isTokenValid() {
+        return configuredTokenValid;
+    }
+    
+    /**
+     * Compares the configured token with the expected token for the current environment.
+     */
+    private boolean validateConfiguredToken() {
         try {
             String expectedToken = getExpectedTokenForCurrentEnvironment();
             String actualToken = normalizeToken(configuredToken);
             
             boolean isValid = expectedToken.equals(actualToken);
             
-            logger.debug("Connection validation for environment '{}': {}", currentEnvironment, 
+            logger.info("Configured token for environment '{}': {}", currentEnvironment, 
                         isValid ? "VALID" : "INVALID");
             
             return isValid;
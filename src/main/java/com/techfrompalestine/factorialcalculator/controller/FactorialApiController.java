@@ -0,0 +1,287 @@
+package com.techfrompalestine.factorialcalculator.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.techfrompalestine.factorialcalculator.dto.BatchFactorialRequest;
+import com.techfrompalestine.factorialcalculator.dto.BatchFactorialResponse;
+import com.techfrompalestine.factorialcalculator.dto.ErrorResponse;
+import com.techfrompalestine.factorialcalculator.dto.FactorialResponse;
+import com.techfrompalestine.factorialcalculator.dto.ModularFactorialResponse;
+import com.techfrompalestine.factorialcalculator.dto.PrimeFactorizationResponse;
+import com.techfrompalestine.factorialcalculator.math.DecimalWriter;
+import com.techfrompalestine.factorialcalculator.metrics.Outcome;
+import com.techfrompalestine.factorialcalculator.service.CalculationService;
+import com.techfrompalestine.factorialcalculator.service.FactorialAnalyticsService;
+import com.techfrompalestine.factorialcalculator.service.LatencyInjectionService;
+import com.techfrompalestine.factorialcalculator.service.ModularFactorialService;
+import com.techfrompalestine.factorialcalculator.service.RequestMetricsService;
+import com.techfrompalestine.factorialcalculator.service.TokenValidationService;
+import com.techfrompalestine.factorialcalculator.service.ResponseTimeService;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JSON API for machine clients.
+ * Uses the same token check, simulated latency and calculation path as the
+ * HTML endpoints, without rendering a page. Responses are deferred until the
+ * simulated delay has elapsed.
+ * Analytics and modular endpoints never calculate the full factorial and are
+ * answered without simulated latency.
+ */
+@RestController
+@RequestMapping("/api/v1/factorial")
+public class FactorialApiController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(FactorialApiController.class);
+    
+    private static final String INVALID_TOKEN_MESSAGE = "Connection invalid - Cannot perform calculation";
+    
+    private final TokenValidationService tokenValidationService;
+    private final CalculationService calculationService;
+    private final ResponseTimeService responseTimeService;
+    private final LatencyInjectionService latencyInjectionService;
+    private final RequestMetricsService requestMetricsService;
+    private final FactorialAnalyticsService analyticsService;
+    private final ModularFactorialService modularFactorialService;
+    
+    public FactorialApiController(
+            TokenValidationService tokenValidationService,
+            CalculationService calculationService,
+            ResponseTimeService responseTimeService,
+            LatencyInjectionService latencyInjectionService,
+            RequestMetricsService requestMetricsService,
+            FactorialAnalyticsService analyticsService,
+            ModularFactorialService modularFactorialService) {
+        this.tokenValidationService = tokenValidationService;
+        this.calculationService = calculationService;
+        this.responseTimeService = responseTimeService;
+        this.latencyInjectionService = latencyInjectionService;
+        this.requestMetricsService = requestMetricsService;
+        this.analyticsService = analyticsService;
+        this.modularFactorialService = modularFactorialService;
+    }
+    
+    /**
+     * Calculates the factorial of a single number.
+     * Results above the inline limit are answered with 413 and a pointer to the
+     * digits endpoint, which finds them in the factorial cache.
+     */
+    @GetMapping("/{number}")
+    public DeferredResult<ResponseEntity<?>> calculateFactorial(@PathVariable int number,
+            @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) 
+            throws InterruptedException {
+        long startNanos = System.nanoTime();
+        if (!tokenValidationService.isValid(token)) {
+            requestMetricsService.record(number, Outcome.INVALID_TOKEN, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(error(HttpStatus.UNAUTHORIZED, INVALID_TOKEN_MESSAGE));
+        }
+        
+        double responseTime = latencyInjectionService.sampleDelay();
+        BigInteger result = calculate(number, startNanos);
+        if (result.bitLength() > FactorialController.MAX_INLINE_RESULT_BITS) {
+            requestMetricsService.record(number, Outcome.VALIDATION_ERROR, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(error(HttpStatus.PAYLOAD_TOO_LARGE, String.format(
+                "Result too large to inline. Stream its digits from %s", digitsUrl(number))));
+        }
+        responseTimeService.addResponseTime(responseTime);
+        
+        return latencyInjectionService.respondAfter(responseTime, ResponseEntity.ok(new FactorialResponse(
+            number, result.toString(), calculationService.getStrategyType(), responseTime)),
+            () -> requestMetricsService.record(number, Outcome.SUCCESS, System.nanoTime() - startNanos));
+    }
+    
+    /**
+     * Streams the decimal digits of a factorial as chunked plain text.
+     * The digits are converted and written incrementally, so huge results are
+     * never held in memory as a string.
+     */
+    @GetMapping("/{number}/digits")
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> streamFactorial(@PathVariable int number,
+            @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) 
+            throws InterruptedException {
+        long startNanos = System.nanoTime();
+        if (!tokenValidationService.isValid(token)) {
+            requestMetricsService.record(number, Outcome.INVALID_TOKEN, System.nanoTime() - startNanos);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, INVALID_TOKEN_MESSAGE);
+        }
+        
+        double responseTime = latencyInjectionService.sampleDelay();
+        BigInteger result = calculate(number, startNanos);
+        responseTimeService.addResponseTime(responseTime);
+        
+        StreamingResponseBody body = out -> DecimalWriter.write(result, out);
+        return latencyInjectionService.respondAfter(responseTime, 
+            ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body(body),
+            () -> requestMetricsService.record(number, Outcome.SUCCESS, System.nanoTime() - startNanos));
+    }
+    
+    /**
+     * Describes a factorial by its digit count, trailing zeros, leading digits and the
+     * exponents of the requested primes, without calculating it
+     */
+    @GetMapping("/{number}/analytics")
+    public ResponseEntity<?> analyzeFactorial(@PathVariable long number,
+            @RequestParam(defaultValue = "10") int leadingDigits,
+            @RequestParam(name = "prime", required = false) List<Long> primes,
+            @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) {
+        if (!tokenValidationService.isValid(token)) {
+            return error(HttpStatus.UNAUTHORIZED, INVALID_TOKEN_MESSAGE);
+        }
+        return ResponseEntity.ok(analyticsService.describe(number, leadingDigits, 
+            primes != null ? primes : List.of()));
+    }
+    
+    /**
+     * Lists the exponent of every prime in a factorial
+     */
+    @GetMapping("/{number}/factorization")
+    public ResponseEntity<?> factorizeFactorial(@PathVariable long number,
+            @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) {
+        if (!tokenValidationService.isValid(token)) {
+            return error(HttpStatus.UNAUTHORIZED, INVALID_TOKEN_MESSAGE);
+        }
+        return ResponseEntity.ok(new PrimeFactorizationResponse(number, analyticsService.primeFactorization(number)));
+    }
+    
+    /**
+     * Calculates a factorial mod a 64-bit modulus
+     */
+    @GetMapping("/{number}/mod/{modulus}")
+    public ResponseEntity<?> calculateFactorialMod(@PathVariable long number, @PathVariable long modulus,
+            @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) {
+        if (!tokenValidationService.isValid(token)) {
+            return error(HttpStatus.UNAUTHORIZED, INVALID_TOKEN_MESSAGE);
+        }
+        return ResponseEntity.ok(new ModularFactorialResponse(number, modulus, 
+            modularFactorialService.factorialMod(number, modulus)));
+    }
+    
+    /**
+     * Calculates the factorials of several numbers in one pass
+     */
+    @PostMapping("/batch")
+    public DeferredResult<ResponseEntity<?>> calculateFactorials(@RequestBody BatchFactorialRequest request,
+            @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) 
+            throws InterruptedException {
+        long startNanos = System.nanoTime();
+        List<Integer> numbers = request.numbers() != null ? request.numbers() : List.of();
+        int largest = numbers.stream().filter(Objects::nonNull).mapToInt(Integer::intValue).max().orElse(0);
+        if (!tokenValidationService.isValid(token)) {
+            requestMetricsService.record(largest, Outcome.INVALID_TOKEN, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(error(HttpStatus.UNAUTHORIZED, INVALID_TOKEN_MESSAGE));
+        }
+        
+        double responseTime = latencyInjectionService.sampleDelay();
+        List<BigInteger> values;
+        try {
+            values = calculationService.factorials(numbers);
+        } catch (IllegalArgumentException e) {
+            requestMetricsService.record(largest, Outcome.VALIDATION_ERROR, System.nanoTime() - startNanos);
+            throw e;
+        } catch (InterruptedException e) {
+            requestMetricsService.record(largest, Outcome.INTERRUPTED, System.nanoTime() - startNanos);
+            throw e;
+        }
+        responseTimeService.addResponseTime(responseTime);
+        
+        List<BatchFactorialResponse.Entry> entries = new ArrayList<>(numbers.size());
+        for (int i = 0; i < numbers.size(); i++) {
+            entries.add(batchEntry(numbers.get(i), values.get(i)));
+        }
+        return latencyInjectionService.respondAfter(responseTime, ResponseEntity.ok(new BatchFactorialResponse(
+            entries, calculationService.getStrategyType(), responseTime)),
+            () -> requestMetricsService.record(largest, Outcome.SUCCESS, System.nanoTime() - startNanos));
+    }
+    
+    /**
+     * Maps invalid inputs to 400 Bad Request
+     */
+    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentTypeMismatchException.class,
+                       HttpMessageNotReadableException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidInput(Exception e) {
+        logger.warn("Invalid input for factorial API: {}", e.getMessage());
+        String message = e instanceof IllegalArgumentException ? e.getMessage() : "Malformed request";
+        return error(HttpStatus.BAD_REQUEST, message);
+    }
+    
+    /**
+     * Maps status exceptions thrown by streaming endpoints to a JSON error body
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleStatus(ResponseStatusException e) {
+        return error(HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+    }
+    
+    /**
+     * Maps calculations rejected for lack of capacity to 503 Service Unavailable
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejected(RejectedExecutionException e) {
+        logger.warn("Factorial API calculation was rejected: {}", e.getMessage());
+        return error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+    
+    /**
+     * Maps interrupted calculations to 503 Service Unavailable
+     */
+    @ExceptionHandler(InterruptedException.class)
+    public ResponseEntity<ErrorResponse> handleInterrupted(InterruptedException e) {
+        logger.error("Factorial API calculation was interrupted", e);
+        Thread.currentThread().interrupt(); // Restore interrupted status
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "Calculation was interrupted");
+    }
+    
+    /**
+     * Calculates one factorial, counting rejected inputs and interruptions before
+     * the 400 and 503 handlers run
+     */
+    private BigInteger calculate(int number, long startNanos) throws InterruptedException {
+        try {
+            return calculationService.factorial(number);
+        } catch (IllegalArgumentException e) {
+            requestMetricsService.record(number, Outcome.VALIDATION_ERROR, System.nanoTime() - startNanos);
+            throw e;
+        } catch (InterruptedException e) {
+            requestMetricsService.record(number, Outcome.INTERRUPTED, System.nanoTime() - startNanos);
+            throw e;
+        }
+    }
+    
+    /**
+     * Inlines a batch result, or points to the digits endpoint when it is too large
+     */
+    private static BatchFactorialResponse.Entry batchEntry(int number, BigInteger value) {
+        if (value.bitLength() > FactorialController.MAX_INLINE_RESULT_BITS) {
+            return new BatchFactorialResponse.Entry(number, null, digitsUrl(number));
+        }
+        return new BatchFactorialResponse.Entry(number, value.toString(), null);
+    }
+    
+    private static String digitsUrl(int number) {
+        return "/api/v1/factorial/" + number + "/digits";
+    }
+    
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), message));
+    }
+}
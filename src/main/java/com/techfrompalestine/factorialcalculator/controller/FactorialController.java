@@ -2,16 +2,28 @@ package com.techfrompalestine.factorialcalculator.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
-import com.techfrompalestine.factorialcalculator.config.TokenConfig;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 import com.techfrompalestine.factorialcalculator.service.CalculationService;
+import com.techfrompalestine.factorialcalculator.service.LatencyInjectionService;
 import com.techfrompalestine.factorialcalculator.service.ResponseTimeService;
 import com.techfrompalestine.factorialcalculator.service.ModelAttributeService;
-import java.util.concurrent.TimeUnit;
+import com.techfrompalestine.factorialcalculator.service.PageRenderCache;
+import com.techfrompalestine.factorialcalculator.service.RequestMetricsService;
+import com.techfrompalestine.factorialcalculator.service.TokenValidationService;
+import com.techfrompalestine.factorialcalculator.metrics.Outcome;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,12 +43,24 @@ public class FactorialController {
     private static final String RESULT_ATTRIBUTE = "result";
     private static final String RESPONSE_TIME_ATTRIBUTE = "responseTime";
     private static final String NUMBER_ATTRIBUTE = "num1";
+    private static final String RESULT_DIGITS_ATTRIBUTE = "resultDigits";
+    private static final String BATCH_RESULTS_ATTRIBUTE = "batchResults";
+    private static final String BATCH_NUMBERS_ATTRIBUTE = "batchNumbers";
     private static final String IS_VALID_ATTRIBUTE = "isValid";
     
-    private final TokenConfig tokenConfig;
+    // Pages may be stored by clients, but are revalidated against their ETag on every use
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+    
+    // Results above this size are linked to the streaming endpoint instead of rendered inline
+    static final int MAX_INLINE_RESULT_BITS = 33_220; // About 10,000 digits, shared with the JSON API
+    
+    private final TokenValidationService tokenValidationService;
     private final CalculationService calculationService;
     private final ResponseTimeService responseTimeService;
     private final ModelAttributeService modelAttributeService;
+    private final LatencyInjectionService latencyInjectionService;
+    private final RequestMetricsService requestMetricsService;
+    private final PageRenderCache pageRenderCache;
     
     @Value("${app.resources.cpu:1}")
     private int cpuResources;
@@ -46,22 +70,36 @@ public class FactorialController {
      */
     @Autowired
     public FactorialController(
-            TokenConfig tokenConfig,
+            TokenValidationService tokenValidationService,
             CalculationService calculationService,
             ResponseTimeService responseTimeService,
-            ModelAttributeService modelAttributeService) {
-        this.tokenConfig = tokenConfig;
+            ModelAttributeService modelAttributeService,
+            LatencyInjectionService latencyInjectionService,
+            RequestMetricsService requestMetricsService,
+            PageRenderCache pageRenderCache) {
+        this.tokenValidationService = tokenValidationService;
         this.calculationService = calculationService;
         this.responseTimeService = responseTimeService;
         this.modelAttributeService = modelAttributeService;
+        this.latencyInjectionService = latencyInjectionService;
+        this.requestMetricsService = requestMetricsService;
+        this.pageRenderCache = pageRenderCache;
     }
     
     /**
-     * Displays the main page with connection status
+     * Displays the main page with connection status.
+     * A request carrying the current ETag gets a 304 without building a model.
      */
     @GetMapping("/")
-    public String showMainPage(Model model) {
-        boolean isTokenValid = tokenConfig.isTokenValid();
+    public String showMainPage(Model model, WebRequest webRequest, HttpServletResponse response,
+                               @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) {
+        boolean isTokenValid = isTokenValid(token);
+        
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        response.setHeader(HttpHeaders.VARY, TokenValidationService.TOKEN_HEADER);
+        if (webRequest.checkNotModified(pageRenderCache.getIndexETag(isTokenValid))) {
+            return null;
+        }
         
         modelAttributeService.addApplicationAttributes(model);
         model.addAttribute(IS_VALID_ATTRIBUTE, isTokenValid);
@@ -70,46 +108,107 @@ public class FactorialController {
     }
     
     /**
-     * Displays the application properties page
+     * Displays the application properties page.
+     * A request carrying the ETag of unchanged statistics gets a 304 without rendering.
      */
     @GetMapping("/properties")
-    public String showProperties(Model model) {
+    public String showProperties(Model model, WebRequest webRequest, HttpServletResponse response) {
         modelAttributeService.addApplicationAttributes(model);
         modelAttributeService.addPropertiesPageAttributes(model, responseTimeService);
+        
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        if (webRequest.checkNotModified(pageRenderCache.getPropertiesETag(model.asMap()))) {
+            return null;
+        }
         return PROPERTIES_VIEW;
     }
     
     /**
-     * Handles factorial calculation requests
+     * Handles factorial calculation requests.
+     * The page is rendered once the simulated delay has elapsed; the request
+     * holds no thread while it waits.
      */
     @PostMapping("/factorial")
-    public String calculateFactorial(@RequestParam int number, Model model) {
+    public DeferredResult<String> calculateFactorial(@RequestParam int number, Model model,
+                                                     @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) {
+        long startNanos = System.nanoTime();
         modelAttributeService.addApplicationAttributes(model);
         
-        if (!isTokenValid()) {
-            return handleInvalidToken(model);
+        if (!isTokenValid(token)) {
+            requestMetricsService.record(number, Outcome.INVALID_TOKEN, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(handleInvalidToken(model));
         }
         
         try {
             FactorialResult result = performFactorialCalculation(number);
-            return handleSuccessfulCalculation(model, number, result);
+            String view = handleSuccessfulCalculation(model, number, result);
+            return latencyInjectionService.respondAfter(result.getResponseTime(), view,
+                () -> requestMetricsService.record(number, Outcome.SUCCESS, System.nanoTime() - startNanos));
             
         } catch (InterruptedException e) {
             logger.error("Factorial calculation was interrupted for number: {}", number, e);
             Thread.currentThread().interrupt(); // Restore interrupted status
-            return handleCalculationError(model, "Calculation was interrupted");
+            requestMetricsService.record(number, Outcome.INTERRUPTED, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(handleCalculationError(model, "Calculation was interrupted"));
             
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid input for factorial calculation: {} - {}", number, e.getMessage());
-            return handleCalculationError(model, e.getMessage());
+            requestMetricsService.record(number, Outcome.VALIDATION_ERROR, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(handleCalculationError(model, e.getMessage()));
         }
     }
     
     /**
-     * Checks if the current connection is valid
+     * Handles batch factorial calculation requests.
+     * All numbers share one token check, one simulated delay, one ascending
+     * calculation pass and one rendered page.
      */
-    private boolean isTokenValid() {
-        return tokenConfig.isTokenValid();
+    @PostMapping("/factorial/batch")
+    public DeferredResult<String> calculateFactorials(@RequestParam List<Integer> numbers, Model model,
+                                                      @RequestHeader(value = TokenValidationService.TOKEN_HEADER, required = false) String token) {
+        long startNanos = System.nanoTime();
+        int largest = largestInput(numbers);
+        modelAttributeService.addApplicationAttributes(model);
+        
+        if (!isTokenValid(token)) {
+            requestMetricsService.record(largest, Outcome.INVALID_TOKEN, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(handleInvalidToken(model));
+        }
+        
+        try {
+            double responseTime = latencyInjectionService.sampleDelay();
+            List<BigInteger> values = calculationService.factorials(numbers);
+            
+            List<BatchEntry> entries = new ArrayList<>(numbers.size());
+            for (int i = 0; i < numbers.size(); i++) {
+                entries.add(new BatchEntry(numbers.get(i), values.get(i)));
+            }
+            model.addAttribute(BATCH_RESULTS_ATTRIBUTE, entries);
+            model.addAttribute(BATCH_NUMBERS_ATTRIBUTE, numbers);
+            model.addAttribute(RESPONSE_TIME_ATTRIBUTE, String.format("%.3f", responseTime));
+            model.addAttribute(IS_VALID_ATTRIBUTE, true);
+            responseTimeService.addResponseTime(responseTime);
+            return latencyInjectionService.respondAfter(responseTime, INDEX_VIEW,
+                () -> requestMetricsService.record(largest, Outcome.SUCCESS, System.nanoTime() - startNanos));
+            
+        } catch (InterruptedException e) {
+            logger.error("Batch factorial calculation was interrupted for numbers: {}", numbers, e);
+            Thread.currentThread().interrupt(); // Restore interrupted status
+            requestMetricsService.record(largest, Outcome.INTERRUPTED, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(handleCalculationError(model, "Calculation was interrupted"));
+            
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid input for batch factorial calculation: {} - {}", numbers, e.getMessage());
+            requestMetricsService.record(largest, Outcome.VALIDATION_ERROR, System.nanoTime() - startNanos);
+            return latencyInjectionService.respondNow(handleCalculationError(model, e.getMessage()));
+        }
+    }
+    
+    /**
+     * Checks if the connection token of the request is valid
+     */
+    private boolean isTokenValid(String token) {
+        return tokenValidationService.isValid(token);
     }
     
     /**
@@ -122,23 +221,13 @@ public class FactorialController {
     }
     
     /**
-     * Performs the factorial calculation with response time tracking
+     * Performs the factorial calculation and draws its simulated response time
      */
     private FactorialResult performFactorialCalculation(int number) throws InterruptedException {
-        double RECURSIVE_WAIT_TIME_SEC = 0.5; // 0.5 seconds
-
-        double responseTime = 0;
-        String strategyName = calculationService.getStrategyType();
-        if ("recursive".equalsIgnoreCase(strategyName)) {
-            responseTime = RECURSIVE_WAIT_TIME_SEC * (0.9 + Math.random() * 0.2); // Random between 90-110% of RECURSIVE_WAIT_TIME_SEC
-        } else {
-            responseTime = RECURSIVE_WAIT_TIME_SEC * (0.2 + Math.random() * 0.1); // Random between 20-30% of RECURSIVE_WAIT_TIME_SEC
-        }
-        logger.info("Strategy: {}, Time: {}s", strategyName, responseTime);
-        TimeUnit.MILLISECONDS.sleep((long)(responseTime * 1000));
+        double responseTime = latencyInjectionService.sampleDelay();
         
         // Calculate factorial
-        long factorialResult = calculationService.factorial(number);
+        BigInteger factorialResult = calculationService.factorial(number);
         
         return new FactorialResult(factorialResult, responseTime);
     }
@@ -147,7 +236,11 @@ public class FactorialController {
      * Handles successful factorial calculation
      */
     private String handleSuccessfulCalculation(Model model, int number, FactorialResult result) {
-        model.addAttribute(RESULT_ATTRIBUTE, result.getValue());
+        if (result.getValue().bitLength() > MAX_INLINE_RESULT_BITS) {
+            model.addAttribute(RESULT_DIGITS_ATTRIBUTE, approximateDigits(result.getValue()));
+        } else {
+            model.addAttribute(RESULT_ATTRIBUTE, result.getValue());
+        }
         model.addAttribute(RESPONSE_TIME_ATTRIBUTE, String.format("%.3f", result.getResponseTime()));
         model.addAttribute(NUMBER_ATTRIBUTE, number);
         model.addAttribute(IS_VALID_ATTRIBUTE, true);
@@ -158,6 +251,26 @@ public class FactorialController {
         return INDEX_VIEW;
     }
     
+    /**
+     * Largest input of a batch, used as its size dimension
+     */
+    private static int largestInput(List<Integer> numbers) {
+        int largest = 0;
+        for (Integer number : numbers) {
+            if (number != null) {
+                largest = Math.max(largest, number);
+            }
+        }
+        return largest;
+    }
+    
+    /**
+     * Estimates the number of decimal digits from the bit length
+     */
+    private static long approximateDigits(BigInteger value) {
+        return (long) (value.bitLength() * Math.log10(2)) + 1;
+    }
+    
     /**
      * Handles calculation errors
      */
@@ -171,15 +284,15 @@ public class FactorialController {
      * Inner class to represent factorial calculation result
      */
     private static class FactorialResult {
-        private final long value;
+        private final BigInteger value;
         private final double responseTime;
         
-        public FactorialResult(long value, double responseTime) {
+        public FactorialResult(BigInteger value, double responseTime) {
             this.value = value;
             this.responseTime = responseTime;
         }
         
-        public long getValue() {
+        public BigInteger getValue() {
             return value;
         }
         
@@ -187,4 +300,36 @@ public class FactorialController {
             return responseTime;
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * One entry of a batch calculation result, in request order.
+     * Values above the inline limit keep only their approximate digit count and
+     * are linked to the digits endpoint, like single results.
+     */
+    public static class BatchEntry {
+        private final int number;
+        private final BigInteger value;
+        private final long digits;
+        
+        public BatchEntry(int number, BigInteger value) {
+            this.number = number;
+            this.digits = approximateDigits(value);
+            this.value = value.bitLength() > MAX_INLINE_RESULT_BITS ? null : value;
+        }
+        
+        public int getNumber() {
+            return number;
+        }
+        
+        /**
+         * Gets the value, or null when it is too large to render inline
+         */
+        public BigInteger getValue() {
+            return value;
+        }
+        
+        public long getDigits() {
+            return digits;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.techfrompalestine.factorialcalculator.controller;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import com.techfrompalestine.factorialcalculator.metrics.OpenMetricsWriter;
+import com.techfrompalestine.factorialcalculator.service.MetricsExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Scrape endpoint for Prometheus-compatible monitoring.
+ * The body is written straight to the response stream instead of through a
+ * message converter, so no intermediate string or byte array is built.
+ */
+@Controller
+public class MetricsController {
+    
+    private final MetricsExportService metricsExportService;
+    
+    public MetricsController(MetricsExportService metricsExportService) {
+        this.metricsExportService = metricsExportService;
+    }
+    
+    /**
+     * Publishes all metrics in the OpenMetrics text format
+     */
+    @GetMapping("/metrics")
+    public void scrape(HttpServletResponse response) throws IOException {
+        response.setContentType(OpenMetricsWriter.CONTENT_TYPE);
+        metricsExportService.scrape(response.getOutputStream());
+    }
+}
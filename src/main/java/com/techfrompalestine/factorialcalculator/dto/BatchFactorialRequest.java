@@ -0,0 +1,11 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+import java.util.List;
+
+/**
+ * JSON request for a batch factorial calculation.
+ * 
+ * @param numbers The inputs, in any order and possibly repeated
+ */
+public record BatchFactorialRequest(List<Integer> numbers) {
+}
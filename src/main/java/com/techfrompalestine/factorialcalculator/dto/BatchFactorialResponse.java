@@ -0,0 +1,25 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+import java.util.List;
+
+/**
+ * JSON response for a batch factorial calculation.
+ * 
+ * @param results The results, in request order
+ * @param strategy The strategy that calculated them
+ * @param responseTime The simulated response time in seconds
+ */
+public record BatchFactorialResponse(List<Entry> results, String strategy, double responseTime) {
+    
+    /**
+     * One input and its factorial.
+     * 
+     * @param number The input
+     * @param result The factorial of the input as a decimal string, or null when
+     *               it is too large to inline
+     * @param digitsUrl Where to stream the digits of a result that is not inlined,
+     *                  otherwise null
+     */
+    public record Entry(int number, String result, String digitsUrl) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+/**
+ * JSON error body returned by the API endpoints.
+ * 
+ * @param status The HTTP status code
+ * @param error The error message
+ */
+public record ErrorResponse(int status, String error) {
+}
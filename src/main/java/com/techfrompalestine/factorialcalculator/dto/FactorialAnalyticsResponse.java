@@ -0,0 +1,16 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+import java.util.List;
+
+/**
+ * JSON response describing a factorial without its full value.
+ * 
+ * @param number The input
+ * @param digits The number of decimal digits of the factorial
+ * @param trailingZeros The number of trailing decimal zeros of the factorial
+ * @param leadingDigits The leading decimal digits of the factorial
+ * @param primeExponents The exponents of the requested primes, in request order
+ */
+public record FactorialAnalyticsResponse(long number, long digits, long trailingZeros, String leadingDigits,
+                                         List<PrimeExponent> primeExponents) {
+}
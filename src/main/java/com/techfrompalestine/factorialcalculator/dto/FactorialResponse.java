@@ -0,0 +1,13 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+/**
+ * JSON response for a single factorial calculation.
+ * The result is a decimal string because it routinely exceeds JSON number precision.
+ * 
+ * @param number The input
+ * @param result The factorial of the input
+ * @param strategy The strategy that calculated it
+ * @param responseTime The simulated response time in seconds
+ */
+public record FactorialResponse(int number, String result, String strategy, double responseTime) {
+}
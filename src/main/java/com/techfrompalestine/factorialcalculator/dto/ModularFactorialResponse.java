@@ -0,0 +1,11 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+/**
+ * JSON response for a factorial reduced by a modulus.
+ * 
+ * @param number The input
+ * @param modulus The modulus
+ * @param result The factorial of the input mod the modulus
+ */
+public record ModularFactorialResponse(long number, long modulus, long result) {
+}
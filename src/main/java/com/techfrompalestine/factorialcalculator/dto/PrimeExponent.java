@@ -0,0 +1,10 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+/**
+ * A prime and its exponent in the prime factorization of a factorial.
+ * 
+ * @param prime The prime
+ * @param exponent The exponent of the prime
+ */
+public record PrimeExponent(long prime, long exponent) {
+}
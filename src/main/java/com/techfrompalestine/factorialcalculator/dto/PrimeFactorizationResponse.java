@@ -0,0 +1,12 @@
+package com.techfrompalestine.factorialcalculator.dto;
+
+import java.util.List;
+
+/**
+ * JSON response with the complete prime factorization of a factorial.
+ * 
+ * @param number The input
+ * @param factors Every prime up to the input with its exponent, ascending
+ */
+public record PrimeFactorizationResponse(long number, List<PrimeExponent> factors) {
+}
@@ -0,0 +1,152 @@
+package com.techfrompalestine.factorialcalculator.latency;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribution of simulated response delays.
+ * 
+ * Profiles are configured as "kind:arg1,arg2,..." with all durations in seconds:
+ * <ul>
+ *   <li>fixed:delay</li>
+ *   <li>uniform:min,max</li>
+ *   <li>normal:mean,stddev (clamped at zero)</li>
+ *   <li>lognormal:median,sigma</li>
+ *   <li>bimodal:fast,spike,spikeProbability (each mode jittered by 10%)</li>
+ * </ul>
+ */
+public interface DelayProfile {
+    
+    /**
+     * Draws one delay from the distribution.
+     * 
+     * @param random The random source to draw from
+     * @return The delay in seconds, never negative
+     */
+    double sampleSeconds(RandomGenerator random);
+    
+    /**
+     * Parses a profile specification.
+     * 
+     * @param spec The specification, e.g. "uniform:0.45,0.55"
+     * @return The delay profile
+     * @throws IllegalArgumentException if the specification is malformed
+     */
+    static DelayProfile parse(String spec) {
+        int colon = spec.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Delay profile must be kind:arguments, got: " + spec);
+        }
+        String kind = spec.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+        double[] args = parseArguments(spec, spec.substring(colon + 1));
+        
+        switch (kind) {
+            case "fixed":
+                requireArguments(spec, args, 1);
+                return new Fixed(args[0]);
+            case "uniform":
+                requireArguments(spec, args, 2);
+                return new Uniform(args[0], args[1]);
+            case "normal":
+                requireArguments(spec, args, 2);
+                return new Normal(args[0], args[1]);
+            case "lognormal":
+                requireArguments(spec, args, 2);
+                return new LogNormal(args[0], args[1]);
+            case "bimodal":
+                requireArguments(spec, args, 3);
+                return new Bimodal(args[0], args[1], args[2]);
+            default:
+                throw new IllegalArgumentException("Unknown delay profile: " + kind);
+        }
+    }
+    
+    private static double[] parseArguments(String spec, String arguments) {
+        String[] parts = arguments.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                values[i] = Double.parseDouble(parts[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in delay profile: " + spec, e);
+            }
+            if (values[i] < 0 || !Double.isFinite(values[i])) {
+                throw new IllegalArgumentException("Delay profile arguments must be non-negative: " + spec);
+            }
+        }
+        return values;
+    }
+    
+    private static void requireArguments(String spec, double[] args, int count) {
+        if (args.length != count) {
+            throw new IllegalArgumentException(
+                "Delay profile expects " + count + " arguments: " + spec);
+        }
+    }
+    
+    /**
+     * Always the same delay
+     */
+    record Fixed(double seconds) implements DelayProfile {
+        @Override
+        public double sampleSeconds(RandomGenerator random) {
+            return seconds;
+        }
+    }
+    
+    /**
+     * Delay drawn uniformly from [min, max)
+     */
+    record Uniform(double min, double max) implements DelayProfile {
+        public Uniform {
+            if (max < min) {
+                throw new IllegalArgumentException("Uniform delay max must not be below min");
+            }
+        }
+        
+        @Override
+        public double sampleSeconds(RandomGenerator random) {
+            return min + random.nextDouble() * (max - min);
+        }
+    }
+    
+    /**
+     * Gaussian delay, clamped at zero
+     */
+    record Normal(double mean, double stddev) implements DelayProfile {
+        @Override
+        public double sampleSeconds(RandomGenerator random) {
+            return Math.max(0, random.nextGaussian(mean, stddev));
+        }
+    }
+    
+    /**
+     * Log-normal delay with the given median and shape; models a long right tail
+     */
+    record LogNormal(double median, double sigma) implements DelayProfile {
+        @Override
+        public double sampleSeconds(RandomGenerator random) {
+            return median * Math.exp(sigma * random.nextGaussian());
+        }
+    }
+    
+    /**
+     * Mostly fast delays with occasional tail spikes
+     */
+    record Bimodal(double fast, double spike, double spikeProbability) implements DelayProfile {
+        
+        private static final double JITTER = 0.1;
+        
+        public Bimodal {
+            if (spikeProbability > 1) {
+                throw new IllegalArgumentException("Spike probability must be at most 1");
+            }
+        }
+        
+        @Override
+        public double sampleSeconds(RandomGenerator random) {
+            double mode = random.nextDouble() < spikeProbability ? spike : fast;
+            return mode * (1 - JITTER + random.nextDouble() * 2 * JITTER);
+        }
+    }
+}
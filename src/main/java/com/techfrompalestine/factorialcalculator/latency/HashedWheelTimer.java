@@ -0,0 +1,157 @@
+package com.techfrompalestine.factorialcalculator.latency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed-wheel timer for large numbers of short, cheap timeouts.
+ * 
+ * Scheduling is a lock-free enqueue; a single worker thread moves new timeouts
+ * into wheel buckets and, once per tick, runs the due entries of one bucket.
+ * Timeouts fire at most one tick late and never early. Tasks run on the worker
+ * thread and must not block.
+ */
+public final class HashedWheelTimer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+    
+    private final long tickNanos;
+    private final int mask;
+    private final List<Timeout>[] wheel;
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private final long startTime;
+    
+    private volatile boolean running = true;
+    private long tick;
+    
+    /**
+     * Creates and starts a timer.
+     * 
+     * @param name The worker thread name
+     * @param tickDuration The timer resolution
+     * @param unit The unit of the tick duration
+     * @param wheelSize Number of buckets, rounded up to a power of two
+     */
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.mask = size - 1;
+        this.wheel = newWheel(size);
+        this.startTime = System.nanoTime();
+        this.worker = Thread.ofPlatform().name(name).daemon(true).start(this::run);
+    }
+    
+    /**
+     * Schedules a task to run once after the given delay.
+     * 
+     * @param task The task; runs on the timer thread and must not block
+     * @param delay The delay
+     * @param unit The unit of the delay
+     */
+    public void schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timer is stopped");
+        }
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startTime;
+        pending.incrementAndGet();
+        incoming.add(new Timeout(task, deadline));
+    }
+    
+    /**
+     * @return The number of scheduled timeouts that have not fired yet
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+    
+    /**
+     * Stops the worker; timeouts that have not fired are discarded.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+    
+    private void run() {
+        while (running) {
+            waitForNextTick();
+            transferIncoming();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+    
+    private void waitForNextTick() {
+        long deadline = (tick + 1) * tickNanos;
+        long remaining;
+        while (running && (remaining = deadline - (System.nanoTime() - startTime)) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+    
+    private void transferIncoming() {
+        Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            long dueTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (dueTick - tick) >> Integer.numberOfTrailingZeros(wheel.length);
+            wheel[(int) (Math.max(dueTick, tick) & mask)].add(timeout);
+        }
+    }
+    
+    /**
+     * Creates the buckets; generic arrays can only be created raw
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<Timeout>[] newWheel(int size) {
+        List<Timeout>[] wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        return wheel;
+    }
+    
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.remainingRounds <= 0) {
+                pending.decrementAndGet();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Timer task failed", e);
+                }
+            } else {
+                timeout.remainingRounds--;
+                bucket.set(kept++, timeout);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+    
+    /**
+     * A scheduled task with its deadline relative to the timer start
+     */
+    private static final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        
+        Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
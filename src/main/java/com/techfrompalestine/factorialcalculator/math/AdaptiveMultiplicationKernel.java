@@ -0,0 +1,261 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Multiplication kernel choosing an algorithm by operand size.
+ * 
+ * Below the parallel threshold the JDK's sequential Karatsuba/Toom-3 multiply is
+ * used; above it the Toom-3 recursion is forked with
+ * {@link BigInteger#parallelMultiply(BigInteger)}; above the NTT threshold the
+ * {@link NttMultiplier} is used. Parallel paths always run on the factorial
+ * fork/join pool: a caller outside it hands the multiplication to the pool, so
+ * the forked subtasks never spill into the common pool and the parallelism stays
+ * bounded by app.resources.cpu.
+ *
+ * Thresholds are measured in bits of the smaller operand and can be auto-tuned
+ * by timing each path on this machine. Tuning starts in the background once the
+ * application is ready, so it never runs during a context refresh (such as the
+ * CDS training run), and its result is stored in the tuning file, if any, so
+ * later starts on the same machine skip it.
+ */
+@Component
+public class AdaptiveMultiplicationKernel implements MultiplicationKernel {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveMultiplicationKernel.class);
+    
+    // Auto-tuning configuration
+    private static final int MIN_TUNING_BITS = 1 << 16;
+    private static final int MAX_TUNING_BITS = 1 << 23;
+    private static final int TUNING_ROUNDS = 2;
+    private static final double REQUIRED_SPEEDUP = 1.1;
+    private static final long TUNING_SEED = 42L;
+    
+    // Keys of the tuning file
+    private static final String PARALLEL_KEY = "parallel-threshold-bits";
+    private static final String NTT_KEY = "ntt-threshold-bits";
+    private static final String MACHINE_KEY = "machine";
+    
+    // Marks a path as disabled
+    public static final int NEVER = Integer.MAX_VALUE;
+    
+    private final boolean autoTune;
+    private final boolean parallelEnabled;
+    private final ForkJoinPool pool;
+    private final Path tuningFile;
+    private volatile int parallelThresholdBits;
+    private volatile int nttThresholdBits;
+    private boolean tuningLoaded;
+    
+    public AdaptiveMultiplicationKernel(
+            ForkJoinPool factorialForkJoinPool,
+            @Value("${app.math.multiply.autotune:true}") boolean autoTune,
+            @Value("${app.math.multiply.tuning-file:}") String tuningFile,
+            @Value("${app.math.multiply.parallel-threshold-bits:1048576}") int parallelThresholdBits,
+            @Value("${app.math.multiply.ntt-threshold-bits:8388608}") int nttThresholdBits) {
+        this.pool = factorialForkJoinPool;
+        this.autoTune = autoTune;
+        this.tuningFile = tuningFile == null || tuningFile.isBlank() ? null : Path.of(tuningFile);
+        this.parallelEnabled = factorialForkJoinPool.getParallelism() > 1;
+        this.parallelThresholdBits = parallelEnabled ? parallelThresholdBits : NEVER;
+        this.nttThresholdBits = nttThresholdBits;
+    }
+    
+    /**
+     * Applies thresholds stored by an earlier tuning run on this machine, if any.
+     */
+    @PostConstruct
+    public void initialize() {
+        tuningLoaded = autoTune && loadTuning();
+        if (tuningLoaded) {
+            logger.info("Multiplication kernel thresholds loaded from {}: parallel={} bits, ntt={} bits",
+                        tuningFile, describe(parallelThresholdBits), describe(nttThresholdBits));
+            return;
+        }
+        logger.info("Multiplication kernel thresholds: parallel={} bits, ntt={} bits",
+                    describe(parallelThresholdBits), describe(nttThresholdBits));
+    }
+    
+    /**
+     * Starts auto-tuning on a background thread once the application is ready,
+     * unless the thresholds were loaded from the tuning file. The configured
+     * thresholds are used until tuning completes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (autoTune && !tuningLoaded) {
+            Thread tuner = new Thread(this::tune, "multiplication-autotune");
+            tuner.setDaemon(true);
+            tuner.setPriority(Thread.MIN_PRIORITY);
+            tuner.start();
+        }
+    }
+    
+    @Override
+    public BigInteger multiply(BigInteger a, BigInteger b) {
+        int bits = Math.min(a.bitLength(), b.bitLength());
+        if (bits >= nttThresholdBits) {
+            return inPool(() -> NttMultiplier.multiply(a, b, parallelEnabled));
+        }
+        if (bits >= parallelThresholdBits) {
+            return inPool(() -> a.parallelMultiply(b));
+        }
+        return a.multiply(b);
+    }
+    
+    /**
+     * Runs a forking multiplication on the factorial pool. Inside the pool it
+     * runs directly and its subtasks fork into the same pool.
+     */
+    private BigInteger inPool(Supplier<BigInteger> multiplication) {
+        if (!parallelEnabled || ForkJoinTask.getPool() == pool) {
+            return multiplication.get();
+        }
+        return pool.invoke(ForkJoinTask.adapt((Callable<BigInteger>) multiplication::get));
+    }
+    
+    /**
+     * Times each multiplication path on doubling operand sizes and moves each
+     * threshold to the smallest size from which that path wins at every larger
+     * measured size, so a single noisy measurement cannot enable it too early.
+     */
+    void tune() {
+        long started = System.nanoTime();
+        Random random = new Random(TUNING_SEED);
+        int tunedParallel = NEVER;
+        int tunedNtt = NEVER;
+        
+        try {
+            for (int bits = MIN_TUNING_BITS; bits <= MAX_TUNING_BITS; bits <<= 1) {
+                BigInteger a = new BigInteger(bits, random);
+                BigInteger b = new BigInteger(bits, random);
+                
+                long sequential = time(() -> a.multiply(b));
+                long parallel = parallelEnabled ? time(() -> inPool(() -> a.parallelMultiply(b))) : Long.MAX_VALUE;
+                long ntt = time(() -> inPool(() -> NttMultiplier.multiply(a, b, parallelEnabled)));
+                
+                if (parallel * REQUIRED_SPEEDUP >= sequential) {
+                    tunedParallel = NEVER;
+                } else if (tunedParallel == NEVER) {
+                    tunedParallel = bits;
+                }
+                if (ntt * REQUIRED_SPEEDUP >= Math.min(sequential, parallel)) {
+                    tunedNtt = NEVER;
+                } else if (tunedNtt == NEVER) {
+                    tunedNtt = bits;
+                }
+                logger.debug("Tuning {} bits: sequential={}us parallel={}us ntt={}us", bits,
+                             sequential / 1000, parallel == Long.MAX_VALUE ? -1 : parallel / 1000, ntt / 1000);
+            }
+        } catch (RuntimeException | OutOfMemoryError e) {
+            logger.warn("Multiplication kernel auto-tuning aborted, keeping configured thresholds: {}",
+                        e.toString());
+            return;
+        }
+        
+        parallelThresholdBits = tunedParallel;
+        nttThresholdBits = tunedNtt;
+        logger.info("Multiplication kernel auto-tuned in {} ms: parallel={} bits, ntt={} bits",
+                    (System.nanoTime() - started) / 1_000_000,
+                    describe(parallelThresholdBits), describe(nttThresholdBits));
+        storeTuning();
+    }
+    
+    /**
+     * Reads the thresholds from the tuning file if it was written on a machine
+     * with the same processor count and JVM.
+     */
+    private boolean loadTuning() {
+        if (tuningFile == null || !Files.isReadable(tuningFile)) {
+            return false;
+        }
+        try (Reader reader = Files.newBufferedReader(tuningFile)) {
+            Properties tuning = new Properties();
+            tuning.load(reader);
+            if (!machine().equals(tuning.getProperty(MACHINE_KEY))) {
+                logger.info("Multiplication tuning file {} was measured on another machine, re-tuning", tuningFile);
+                return false;
+            }
+            parallelThresholdBits = parallelEnabled ? Integer.parseInt(tuning.getProperty(PARALLEL_KEY)) : NEVER;
+            nttThresholdBits = Integer.parseInt(tuning.getProperty(NTT_KEY));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable multiplication tuning file {}: {}", tuningFile, e.toString());
+            return false;
+        }
+    }
+    
+    void storeTuning() {
+        if (tuningFile == null) {
+            return;
+        }
+        Properties tuning = new Properties();
+        tuning.setProperty(MACHINE_KEY, machine());
+        tuning.setProperty(PARALLEL_KEY, String.valueOf(parallelThresholdBits));
+        tuning.setProperty(NTT_KEY, String.valueOf(nttThresholdBits));
+        try {
+            if (tuningFile.getParent() != null) {
+                Files.createDirectories(tuningFile.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(tuningFile)) {
+                tuning.store(writer, "Measured multiplication thresholds");
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to store multiplication tuning in {}: {}", tuningFile, e.getMessage());
+        }
+    }
+    
+    /**
+     * Identifies the hardware and JVM the thresholds were measured on.
+     */
+    private String machine() {
+        return Runtime.getRuntime().availableProcessors() + "/" + pool.getParallelism() + "/"
+               + System.getProperty("java.vm.version");
+    }
+    
+    private static long time(Runnable operation) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < TUNING_ROUNDS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+    
+    private static String describe(int thresholdBits) {
+        return thresholdBits == NEVER ? "never" : String.valueOf(thresholdBits);
+    }
+    
+    /**
+     * Gets the operand size in bits from which parallel Toom-3 is used.
+     */
+    public int getParallelThresholdBits() {
+        return parallelThresholdBits;
+    }
+    
+    /**
+     * Gets the operand size in bits from which the NTT multiplier is used.
+     */
+    public int getNttThresholdBits() {
+        return nttThresholdBits;
+    }
+}
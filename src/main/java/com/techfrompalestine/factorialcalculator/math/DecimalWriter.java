@@ -0,0 +1,151 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streams the decimal representation of large integers.
+ * 
+ * Uses divide-and-conquer radix conversion: a number below (10^k)^2 is split by
+ * one division by 10^k into two halves that are converted recursively, down to
+ * 18-digit leaves that fit a long. The powers 10^(18 * 2^i) are computed once and
+ * shared. Digits are written as ASCII into a fixed-size buffer that is flushed to
+ * the stream whenever it fills, so the full decimal string is never materialized.
+ */
+public final class DecimalWriter {
+    
+    private static final int LEAF_DIGITS = 18;
+    private static final long LEAF_POWER = 1_000_000_000_000_000_000L;
+    private static final int DEFAULT_CHUNK_BYTES = 8192;
+    
+    // POWERS.get()[i] = 10^(18 * 2^i); copy-on-write, so readers never lock
+    private static final AtomicReference<BigInteger[]> POWERS =
+            new AtomicReference<>(new BigInteger[] {BigInteger.valueOf(LEAF_POWER)});
+    
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+    
+    private DecimalWriter(OutputStream out, int chunkBytes) {
+        this.out = out;
+        this.buffer = new byte[Math.max(LEAF_DIGITS, chunkBytes)];
+    }
+    
+    /**
+     * Writes the decimal representation of a value using the default chunk size.
+     * 
+     * @param value The value to write
+     * @param out The destination stream; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public static void write(BigInteger value, OutputStream out) throws IOException {
+        write(value, out, DEFAULT_CHUNK_BYTES);
+    }
+    
+    /**
+     * Writes the decimal representation of a value.
+     * 
+     * @param value The value to write
+     * @param out The destination stream; it is flushed but not closed
+     * @param chunkBytes The number of bytes buffered between writes to the stream
+     * @throws IOException if writing fails
+     */
+    public static void write(BigInteger value, OutputStream out, int chunkBytes) throws IOException {
+        DecimalWriter writer = new DecimalWriter(out, chunkBytes);
+        BigInteger magnitude = value;
+        if (value.signum() < 0) {
+            writer.put((byte) '-');
+            magnitude = value.negate();
+        }
+        
+        // Find the smallest level whose square exceeds the magnitude
+        int level = -1;
+        while (magnitude.compareTo(power(level + 1)) >= 0) {
+            level++;
+        }
+        writer.writeDigits(magnitude, level, false);
+        writer.flush();
+    }
+    
+    /**
+     * Writes a value below 10^(18 * 2^(level + 1)), zero-padded to that many digits if requested.
+     */
+    private void writeDigits(BigInteger value, int level, boolean pad) throws IOException {
+        if (level < 0) {
+            writeLeaf(value.longValue(), pad);
+            return;
+        }
+        
+        BigInteger[] halves = value.divideAndRemainder(power(level));
+        if (!pad && halves[0].signum() == 0) {
+            writeDigits(halves[1], level - 1, false);
+        } else {
+            writeDigits(halves[0], level - 1, pad);
+            writeDigits(halves[1], level - 1, true);
+        }
+    }
+    
+    private void writeLeaf(long value, boolean pad) throws IOException {
+        if (buffer.length - position < LEAF_DIGITS) {
+            flushBuffer();
+        }
+        int digits = pad ? LEAF_DIGITS : Math.max(1, decimalLength(value));
+        long remaining = value;
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        position += digits;
+    }
+    
+    private static int decimalLength(long value) {
+        int length = 0;
+        for (long remaining = value; remaining > 0; remaining /= 10) {
+            length++;
+        }
+        return length;
+    }
+    
+    private void put(byte value) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = value;
+    }
+    
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+    
+    private void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+    
+    /**
+     * Returns 10^(18 * 2^level), squaring the largest known power as needed.
+     * The squarings run without a lock and are published by swapping in a longer
+     * copy; writers racing on the same levels compute equal values, and the loser
+     * only wastes its work.
+     */
+    private static BigInteger power(int level) {
+        while (true) {
+            BigInteger[] known = POWERS.get();
+            if (level < known.length) {
+                return known[level];
+            }
+            
+            BigInteger[] extended = Arrays.copyOf(known, level + 1);
+            for (int i = known.length; i <= level; i++) {
+                extended[i] = extended[i - 1].multiply(extended[i - 1]);
+            }
+            if (POWERS.compareAndSet(known, extended)) {
+                return extended[level];
+            }
+        }
+    }
+}
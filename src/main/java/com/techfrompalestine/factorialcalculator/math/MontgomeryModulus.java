@@ -0,0 +1,156 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+/**
+ * Montgomery arithmetic modulo an odd 64-bit modulus, with R = 2^64.
+ *
+ * A residue a is represented by a R mod m. Multiplying two representations and
+ * reducing with REDC yields the representation of the product using two
+ * 64x64-bit multiplications and no division, which makes long chains of
+ * modular multiplications several times faster than {@code %} on a 128-bit
+ * product. Multiplying a representation by a plain residue removes one factor
+ * of R instead, which products of consecutive integers exploit to skip
+ * converting every factor.
+ */
+public final class MontgomeryModulus {
+
+    private final long modulus;
+    // m^-1 mod 2^64
+    private final long inverse;
+    // R mod m, the representation of one
+    private final long one;
+    // R^2 mod m, which converts a residue into its representation
+    private final long rSquared;
+
+    /**
+     * Creates the arithmetic for an odd modulus.
+     *
+     * @param modulus The modulus, odd and greater than one
+     * @throws IllegalArgumentException if the modulus is even or below 3
+     */
+    public MontgomeryModulus(long modulus) {
+        if (modulus < 3 || (modulus & 1) == 0) {
+            throw new IllegalArgumentException("Montgomery modulus must be odd and greater than one");
+        }
+        this.modulus = modulus;
+
+        // Newton's iteration doubles the correct low bits: 3, 6, 12, 24, 48, 96
+        long x = modulus;
+        for (int i = 0; i < 5; i++) {
+            x *= 2 - modulus * x;
+        }
+        this.inverse = x;
+
+        // 2^64 - m is congruent to R, and R^2 follows by doubling R another 64 times
+        this.one = Long.remainderUnsigned(-modulus, modulus);
+        long square = one;
+        for (int i = 0; i < 64; i++) {
+            square = addMod(square, square);
+        }
+        this.rSquared = square;
+    }
+
+    /**
+     * Gets the modulus.
+     */
+    public long modulus() {
+        return modulus;
+    }
+
+    /**
+     * Gets the representation of one.
+     */
+    public long one() {
+        return one;
+    }
+
+    /**
+     * Converts a residue into its Montgomery representation.
+     *
+     * @param value A residue in [0, m)
+     * @return value R mod m
+     */
+    public long toMontgomery(long value) {
+        return multiply(value, rSquared);
+    }
+
+    /**
+     * Converts a Montgomery representation back into a residue.
+     *
+     * @param value A representation a R mod m
+     * @return a mod m
+     */
+    public long fromMontgomery(long value) {
+        return reduce(0, value);
+    }
+
+    /**
+     * Computes a b R^-1 mod m. For two representations this is the representation
+     * of the product; for a representation and a plain residue it is the plain product.
+     *
+     * @param a A value in [0, m)
+     * @param b A value in [0, m)
+     * @return a b R^-1 mod m
+     */
+    public long multiply(long a, long b) {
+        return reduce(Math.multiplyHigh(a, b), a * b);
+    }
+
+    /**
+     * Computes a b mod m for two plain residues.
+     *
+     * @param a A residue in [0, m)
+     * @param b A residue in [0, m)
+     * @return a b mod m
+     */
+    public long multiplyResidues(long a, long b) {
+        return multiply(toMontgomery(a), b);
+    }
+
+    /**
+     * Raises a representation to a power.
+     *
+     * @param base The representation of the base
+     * @param exponent The exponent, not negative
+     * @return The representation of base^exponent
+     */
+    public long pow(long base, long exponent) {
+        long result = one;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = multiply(result, base);
+            }
+            base = multiply(base, base);
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the representation of R^k, i.e. R^(k + 1) mod m.
+     * Starting a chain of k multiplications by plain residues from it leaves the
+     * representation of their product.
+     *
+     * @param k The number of plain factors, not negative
+     * @return R^(k + 1) mod m
+     */
+    public long powerOfR(long k) {
+        return pow(rSquared, k);
+    }
+
+    /**
+     * REDC: (hi 2^64 + lo) R^-1 mod m for a product of two values below m.
+     * q m agrees with the product in the low word, so the subtraction leaves
+     * hi - mulhi(q, m), which lies in (-m, m).
+     */
+    private long reduce(long hi, long lo) {
+        long q = lo * inverse;
+        long result = hi - Math.unsignedMultiplyHigh(q, modulus);
+        return result < 0 ? result + modulus : result;
+    }
+
+    private long addMod(long a, long b) {
+        // Below 2^63 each, so the sum cannot overflow as an unsigned value
+        long sum = a + b;
+        return Long.compareUnsigned(sum, modulus) >= 0 ? sum - modulus : sum;
+    }
+}
@@ -0,0 +1,37 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import java.math.BigInteger;
+
+/**
+ * Multiplication primitive used by the large factorial algorithms.
+ * 
+ * Implementations may pick a different algorithm depending on operand size,
+ * so that the few giant multiplications near the top of a product tree can use
+ * asymptotically faster or parallel methods than the many small ones below.
+ */
+public interface MultiplicationKernel {
+    
+    /**
+     * Kernel that always uses {@link BigInteger#multiply(BigInteger)}.
+     */
+    MultiplicationKernel STANDARD = BigInteger::multiply;
+    
+    /**
+     * Multiplies two integers.
+     * 
+     * @param a The first factor
+     * @param b The second factor
+     * @return The product a * b
+     */
+    BigInteger multiply(BigInteger a, BigInteger b);
+    
+    /**
+     * Squares an integer.
+     * 
+     * @param a The value to square
+     * @return The square a * a
+     */
+    default BigInteger square(BigInteger a) {
+        return multiply(a, a);
+    }
+}
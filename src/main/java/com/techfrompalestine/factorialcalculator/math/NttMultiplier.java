@@ -0,0 +1,230 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Number-theoretic-transform multiplication of large integers.
+ * 
+ * Operands are split into 16-bit limbs and convolved with a transform modulo the
+ * prime P = 2^64 - 2^32 + 1, which has roots of unity of every power-of-two order
+ * up to 2^32 and a cheap reduction. With 16-bit limbs each convolution term is
+ * below 2^32 * length, so the result is exact for operands up to 2^31 bits.
+ * This is the Schönhage–Strassen approach with the recursion replaced by a
+ * single word-sized prime field.
+ */
+public final class NttMultiplier {
+    
+    private static final long P = 0xFFFF_FFFF_0000_0001L;
+    private static final long EPSILON = 0xFFFF_FFFFL; // 2^64 mod P
+    private static final long GENERATOR = 7;
+    private static final int LIMB_BITS = 16;
+    private static final int LIMB_MASK = 0xFFFF;
+    private static final int MAX_LOG_LENGTH = 32;
+    
+    // Transforms at least this long are split into two parallel halves
+    private static final int PARALLEL_TRANSFORM_LENGTH = 1 << 16;
+    
+    private NttMultiplier() {
+    }
+    
+    /**
+     * Multiplies two integers using the number-theoretic transform.
+     * 
+     * @param a The first factor
+     * @param b The second factor
+     * @param parallel Whether the forward transforms may run concurrently
+     * @return The product a * b
+     */
+    public static BigInteger multiply(BigInteger a, BigInteger b, boolean parallel) {
+        if (a.signum() == 0 || b.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+        boolean square = a == b;
+        int signum = a.signum() * b.signum();
+        
+        long[] left = toLimbs(a.abs());
+        int resultLimbs = left.length + (square ? left.length : (b.bitLength() + LIMB_BITS - 1) / LIMB_BITS);
+        int length = Integer.highestOneBit(Math.max(1, resultLimbs - 1)) << 1;
+        if (Integer.numberOfTrailingZeros(length) > MAX_LOG_LENGTH || length < 0) {
+            throw new ArithmeticException("Operands too large for the number-theoretic transform");
+        }
+        
+        long[] fa = new long[length];
+        System.arraycopy(left, 0, fa, 0, left.length);
+        long[] roots = rootTable(length, false);
+        
+        if (square) {
+            transform(fa, roots, parallel);
+            for (int i = 0; i < length; i++) {
+                fa[i] = mulMod(fa[i], fa[i]);
+            }
+        } else {
+            long[] right = toLimbs(b.abs());
+            long[] fb = new long[length];
+            System.arraycopy(right, 0, fb, 0, right.length);
+            if (parallel && length >= PARALLEL_TRANSFORM_LENGTH) {
+                ForkJoinTask<?> forward = ForkJoinTask.adapt(() -> transform(fb, roots, true)).fork();
+                transform(fa, roots, true);
+                forward.join();
+            } else {
+                transform(fa, roots, false);
+                transform(fb, roots, false);
+            }
+            for (int i = 0; i < length; i++) {
+                fa[i] = mulMod(fa[i], fb[i]);
+            }
+        }
+        
+        transform(fa, rootTable(length, true), parallel);
+        long inverseLength = powMod(length, P - 2);
+        for (int i = 0; i < length; i++) {
+            fa[i] = mulMod(fa[i], inverseLength);
+        }
+        
+        BigInteger product = fromCoefficients(fa, resultLimbs);
+        return signum < 0 ? product.negate() : product;
+    }
+    
+    /**
+     * In-place iterative Cooley–Tukey transform over Z/P.
+     */
+    private static void transform(long[] values, long[] roots, boolean parallel) {
+        int length = values.length;
+        bitReverse(values);
+        for (int half = 1; half < length; half <<= 1) {
+            int stride = length / (2 * half);
+            if (parallel && length >= PARALLEL_TRANSFORM_LENGTH && half >= length / 4) {
+                // The last stages have few, very long butterfly groups; split them across two threads
+                final int h = half;
+                ForkJoinTask<?> upper = ForkJoinTask.adapt(
+                    () -> butterflies(values, roots, h, stride, h / 2, h)).fork();
+                butterflies(values, roots, half, stride, 0, half / 2);
+                upper.join();
+            } else {
+                butterflies(values, roots, half, stride, 0, half);
+            }
+        }
+    }
+    
+    /**
+     * Runs the butterflies of one stage for twiddle indices in [fromJ, toJ).
+     */
+    private static void butterflies(long[] values, long[] roots, int half, int stride, int fromJ, int toJ) {
+        int length = values.length;
+        for (int j = fromJ; j < toJ; j++) {
+            long twiddle = roots[j * stride];
+            for (int start = 0; start < length; start += 2 * half) {
+                int i = start + j;
+                long u = values[i];
+                long v = mulMod(values[i + half], twiddle);
+                values[i] = addMod(u, v);
+                values[i + half] = subMod(u, v);
+            }
+        }
+    }
+    
+    /**
+     * Powers w^0 .. w^(length/2 - 1) of a primitive root of unity of the given order.
+     */
+    private static long[] rootTable(int length, boolean inverse) {
+        long root = powMod(GENERATOR, Long.divideUnsigned(P - 1, length));
+        if (inverse) {
+            root = powMod(root, P - 2);
+        }
+        long[] roots = new long[Math.max(1, length / 2)];
+        roots[0] = 1;
+        for (int i = 1; i < roots.length; i++) {
+            roots[i] = mulMod(roots[i - 1], root);
+        }
+        return roots;
+    }
+    
+    private static void bitReverse(long[] values) {
+        int length = values.length;
+        int shift = 32 - Integer.numberOfTrailingZeros(length);
+        for (int i = 0; i < length; i++) {
+            int j = Integer.reverse(i) >>> shift;
+            if (i < j) {
+                long tmp = values[i];
+                values[i] = values[j];
+                values[j] = tmp;
+            }
+        }
+    }
+    
+    private static long[] toLimbs(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int limbCount = (value.bitLength() + LIMB_BITS - 1) / LIMB_BITS;
+        long[] limbs = new long[Math.max(1, limbCount)];
+        for (int i = 0; i < limbCount; i++) {
+            int low = bytes.length - 1 - 2 * i;
+            int limb = bytes[low] & 0xFF;
+            if (low > 0) {
+                limb |= (bytes[low - 1] & 0xFF) << 8;
+            }
+            limbs[i] = limb;
+        }
+        return limbs;
+    }
+    
+    private static BigInteger fromCoefficients(long[] coefficients, int limbCount) {
+        // Two extra limbs absorb the final carry
+        byte[] bytes = new byte[2 * (limbCount + 2)];
+        long carry = 0;
+        int limbs = limbCount + 2;
+        for (int i = 0; i < limbs; i++) {
+            long value = carry + (i < coefficients.length ? coefficients[i] : 0);
+            int limb = (int) (value & LIMB_MASK);
+            carry = value >>> LIMB_BITS;
+            int low = bytes.length - 1 - 2 * i;
+            bytes[low] = (byte) limb;
+            bytes[low - 1] = (byte) (limb >>> 8);
+        }
+        return new BigInteger(1, bytes);
+    }
+    
+    static long mulMod(long a, long b) {
+        long low = a * b;
+        long high = Math.unsignedMultiplyHigh(a, b);
+        long highHigh = high >>> 32;
+        long highLow = high & EPSILON;
+        
+        // high * 2^64 + low = highLow * (2^32 - 1) - highHigh + low  (mod P)
+        long t0 = low - highHigh;
+        if (Long.compareUnsigned(low, highHigh) < 0) {
+            t0 -= EPSILON;
+        }
+        long t1 = highLow * EPSILON;
+        long result = t0 + t1;
+        if (Long.compareUnsigned(result, t1) < 0) {
+            result += EPSILON;
+        }
+        return Long.compareUnsigned(result, P) >= 0 ? result - P : result;
+    }
+    
+    private static long addMod(long a, long b) {
+        long sum = a + b;
+        if (Long.compareUnsigned(sum, a) < 0) {
+            return sum + EPSILON;
+        }
+        return Long.compareUnsigned(sum, P) >= 0 ? sum - P : sum;
+    }
+    
+    private static long subMod(long a, long b) {
+        long difference = a - b;
+        return Long.compareUnsigned(a, b) < 0 ? difference - EPSILON : difference;
+    }
+    
+    private static long powMod(long base, long exponent) {
+        long result = 1;
+        long b = base;
+        for (long e = exponent; e != 0; e >>>= 1) {
+            if ((e & 1) == 1) {
+                result = mulMod(result, b);
+            }
+            b = mulMod(b, b);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+/**
+ * Prime sieving, primality and prime exponents of factorials.
+ */
+public final class Primes {
+
+    // Miller-Rabin bases that are deterministic for every 64-bit input
+    private static final long[] WITNESSES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+
+    private Primes() {
+    }
+
+    /**
+     * Sieve of Eratosthenes over odd numbers, returning all odd primes up to limit.
+     *
+     * @param limit The largest candidate
+     * @return The odd primes up to limit, ascending
+     */
+    public static int[] sieveOddPrimes(int limit) {
+        // composite[i] describes the odd number 2i + 1
+        boolean[] composite = new boolean[limit / 2 + 1];
+        int count = 0;
+        for (int i = 1; 2 * i + 1 <= limit; i++) {
+            if (composite[i]) {
+                continue;
+            }
+            count++;
+            long prime = 2L * i + 1;
+            for (long multiple = prime * prime; multiple <= limit; multiple += 2 * prime) {
+                composite[(int) (multiple / 2)] = true;
+            }
+        }
+
+        int[] primes = new int[count];
+        int index = 0;
+        for (int i = 1; 2 * i + 1 <= limit; i++) {
+            if (!composite[i]) {
+                primes[index++] = 2 * i + 1;
+            }
+        }
+        return primes;
+    }
+
+    /**
+     * Deterministic Miller-Rabin primality test.
+     *
+     * @param n The number to test
+     * @return true if n is prime
+     */
+    public static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (long witness : WITNESSES) {
+            if (n % witness == 0) {
+                return n == witness;
+            }
+        }
+
+        // Tested in Montgomery form, where -1 is represented by m - R mod m
+        MontgomeryModulus arithmetic = new MontgomeryModulus(n);
+        long one = arithmetic.one();
+        long minusOne = n - one;
+        long d = n - 1;
+        int shift = Long.numberOfTrailingZeros(d);
+        d >>= shift;
+        for (long witness : WITNESSES) {
+            long x = arithmetic.pow(arithmetic.toMontgomery(witness), d);
+            if (x == one || x == minusOne) {
+                continue;
+            }
+            boolean composite = true;
+            for (int i = 1; i < shift && composite; i++) {
+                x = arithmetic.multiply(x, x);
+                composite = x != minusOne;
+            }
+            if (composite) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exponent of a prime in n!, by Legendre's formula: the sum of n / p^i.
+     *
+     * @param n The factorial input, not negative
+     * @param p The prime
+     * @return The exponent of p in n!
+     */
+    public static long legendreExponent(long n, long p) {
+        long exponent = 0;
+        // Dividing the quotient again avoids computing p^i, which could overflow
+        for (long quotient = n / p; quotient > 0; quotient /= p) {
+            exponent += quotient;
+        }
+        return exponent;
+    }
+}
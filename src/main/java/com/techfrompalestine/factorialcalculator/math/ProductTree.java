@@ -0,0 +1,150 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import java.math.BigInteger;
+
+/**
+ * Balanced binary-split products of integer ranges.
+ * 
+ * Multiplying a long range left to right keeps one huge operand and one tiny one,
+ * which wastes the subquadratic multiplication algorithms of {@link BigInteger}.
+ * Splitting the range in halves keeps both operands of every multiplication
+ * roughly the same size, and lets the {@link MultiplicationKernel} switch to a
+ * faster algorithm for the few giant multiplications near the root.
+ */
+public final class ProductTree {
+    
+    // Ranges at most this long are multiplied directly using long accumulators
+    private static final int LEAF_SIZE = 16;
+    
+    private ProductTree() {
+    }
+    
+    /**
+     * Multiplies all integers in the inclusive range [from, to].
+     * 
+     * @param from The first factor
+     * @param to The last factor
+     * @return The product, or one if the range is empty
+     */
+    public static BigInteger product(int from, int to) {
+        return product(MultiplicationKernel.STANDARD, from, to);
+    }
+    
+    /**
+     * Multiplies all integers in the inclusive range [from, to] using the given kernel.
+     * 
+     * @param kernel The kernel used for multiplications above the leaves
+     * @param from The first factor
+     * @param to The last factor
+     * @return The product, or one if the range is empty
+     */
+    public static BigInteger product(MultiplicationKernel kernel, int from, int to) {
+        if (from > to) {
+            return BigInteger.ONE;
+        }
+        if (to - from < LEAF_SIZE) {
+            return leafProduct(from, to, 1);
+        }
+        int middle = (int) (((long) from + to) >>> 1);
+        return kernel.multiply(product(kernel, from, middle), product(kernel, middle + 1, to));
+    }
+    
+    /**
+     * Multiplies all odd integers in the inclusive range [from, to].
+     * 
+     * @param from The lower bound of the range
+     * @param to The upper bound of the range
+     * @return The product, or one if the range contains no odd integer
+     */
+    public static BigInteger oddProduct(int from, int to) {
+        return oddProduct(MultiplicationKernel.STANDARD, from, to);
+    }
+    
+    /**
+     * Multiplies all odd integers in the inclusive range [from, to] using the given kernel.
+     * 
+     * @param kernel The kernel used for multiplications above the leaves
+     * @param from The lower bound of the range
+     * @param to The upper bound of the range
+     * @return The product, or one if the range contains no odd integer
+     */
+    public static BigInteger oddProduct(MultiplicationKernel kernel, int from, int to) {
+        int first = from | 1;
+        int last = (to & 1) == 1 ? to : to - 1;
+        if (first > last) {
+            return BigInteger.ONE;
+        }
+        return oddProductOfCount(kernel, first, (last - first) / 2 + 1);
+    }
+    
+    /**
+     * Multiplies the given factors with index in the half-open range [from, to).
+     * 
+     * @param factors The factors to multiply
+     * @param from The index of the first factor
+     * @param to The index after the last factor
+     * @return The product, or one if the range is empty
+     */
+    public static BigInteger product(long[] factors, int from, int to) {
+        return product(MultiplicationKernel.STANDARD, factors, from, to);
+    }
+    
+    /**
+     * Multiplies the given factors with index in [from, to) using the given kernel.
+     * 
+     * @param kernel The kernel used for multiplications above the leaves
+     * @param factors The factors to multiply
+     * @param from The index of the first factor
+     * @param to The index after the last factor
+     * @return The product, or one if the range is empty
+     */
+    public static BigInteger product(MultiplicationKernel kernel, long[] factors, int from, int to) {
+        int count = to - from;
+        if (count <= 0) {
+            return BigInteger.ONE;
+        }
+        if (count <= LEAF_SIZE) {
+            BigInteger result = BigInteger.ONE;
+            long accumulator = 1;
+            for (int i = from; i < to; i++) {
+                long factor = factors[i];
+                if (Math.multiplyHigh(accumulator, factor) != 0 || accumulator * factor < 0) {
+                    result = result.multiply(BigInteger.valueOf(accumulator));
+                    accumulator = factor;
+                } else {
+                    accumulator *= factor;
+                }
+            }
+            return result.multiply(BigInteger.valueOf(accumulator));
+        }
+        int middle = (from + to) >>> 1;
+        return kernel.multiply(product(kernel, factors, from, middle), product(kernel, factors, middle, to));
+    }
+    
+    private static BigInteger oddProductOfCount(MultiplicationKernel kernel, int first, int count) {
+        if (count <= LEAF_SIZE) {
+            return leafProduct(first, first + 2 * (count - 1), 2);
+        }
+        int half = count / 2;
+        return kernel.multiply(oddProductOfCount(kernel, first, half),
+                               oddProductOfCount(kernel, first + 2 * half, count - half));
+    }
+    
+    /**
+     * Multiplies from, from + step, ... up to to, packing as many factors into
+     * a long as fit before spilling into a BigInteger.
+     */
+    private static BigInteger leafProduct(int from, int to, int step) {
+        BigInteger result = BigInteger.ONE;
+        long accumulator = 1;
+        for (long i = from; i <= to; i += step) {
+            if (Math.multiplyHigh(accumulator, i) != 0 || accumulator * i < 0) {
+                result = result.multiply(BigInteger.valueOf(accumulator));
+                accumulator = i;
+            } else {
+                accumulator *= i;
+            }
+        }
+        return result.multiply(BigInteger.valueOf(accumulator));
+    }
+}
@@ -0,0 +1,45 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+/**
+ * Decade-sized ranges of factorial inputs used as a metrics dimension.
+ * The first bucket is the range every strategy supports.
+ */
+public enum InputSizeBucket {
+    UP_TO_20(20, "0-20"),
+    UP_TO_999(999, "21-999"),
+    UP_TO_9999(9_999, "1000-9999"),
+    UP_TO_99999(99_999, "10000-99999"),
+    ABOVE_99999(Integer.MAX_VALUE, "100000+");
+    
+    private static final InputSizeBucket[] BUCKETS = values();
+    
+    private final int upperBound;
+    private final String label;
+    
+    InputSizeBucket(int upperBound, String label) {
+        this.upperBound = upperBound;
+        this.label = label;
+    }
+    
+    /**
+     * Finds the bucket of an input; negative inputs fall into the first bucket.
+     * 
+     * @param number The factorial input
+     * @return The bucket containing the input
+     */
+    public static InputSizeBucket of(int number) {
+        for (InputSizeBucket bucket : BUCKETS) {
+            if (number <= bucket.upperBound) {
+                return bucket;
+            }
+        }
+        return ABOVE_99999;
+    }
+    
+    /**
+     * @return The label used when publishing metrics
+     */
+    public String getLabel() {
+        return label;
+    }
+}
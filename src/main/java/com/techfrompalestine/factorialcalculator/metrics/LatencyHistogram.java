@@ -0,0 +1,250 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear bucketed histogram of non-negative long values, in the style of HdrHistogram.
+ * 
+ * Values below 2^s are counted exactly; each higher power-of-two range is split
+ * into 2^(s-1) equal buckets, so every bucket is narrower than the configured
+ * relative precision. Memory is fixed at construction, recording is one atomic
+ * increment with no allocation, and values above the trackable maximum are
+ * clamped into the last bucket.
+ */
+public class LatencyHistogram {
+    
+    private final Layout layout;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount = new LongAdder();
+    // Sum of the recorded values before clamping, for summary exports
+    private final LongAdder totalValue = new LongAdder();
+    
+    /**
+     * Creates an empty histogram.
+     * 
+     * @param highestTrackableValue The largest value recorded without clamping
+     * @param significantDigits Decimal digits of precision, 1 to 5
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+        this.layout = Layout.of(highestTrackableValue, significantDigits);
+        this.counts = new AtomicLongArray(layout.bucketCount);
+    }
+    
+    /**
+     * Records one value.
+     * 
+     * @param value The value, negative values are counted as zero
+     */
+    public void record(long value) {
+        counts.incrementAndGet(layout.indexOf(value));
+        totalCount.increment();
+        totalValue.add(Math.max(0, value));
+    }
+    
+    /**
+     * @return The number of recorded values
+     */
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+    
+    /**
+     * @return The sum of the recorded values, negative values counted as zero
+     */
+    public long getTotalValue() {
+        return totalValue.sum();
+    }
+    
+    /**
+     * Reads several percentiles straight from the live counts, without copying them.
+     * Values recorded during the read may or may not be included.
+     * 
+     * @param percentiles The percentiles, 0 to 100, in ascending order
+     * @param values Receives the value at each percentile, 0 if the histogram is empty
+     * @return The number of values the percentiles were computed over
+     */
+    public long valuesAtPercentiles(double[] percentiles, long[] values) {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            Arrays.fill(values, 0, percentiles.length, 0);
+            return 0;
+        }
+        
+        int next = 0;
+        long seen = 0;
+        for (int i = 0; i < counts.length() && next < percentiles.length; i++) {
+            seen += counts.get(i);
+            while (next < percentiles.length && seen >= rank(percentiles[next], total)) {
+                values[next++] = layout.highestEquivalentValue(i);
+            }
+        }
+        while (next < percentiles.length) {
+            values[next++] = layout.highestEquivalentValue(counts.length() - 1);
+        }
+        return total;
+    }
+    
+    /**
+     * Copies the current counts into an immutable snapshot.
+     * 
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(layout, copy, total);
+    }
+    
+    /**
+     * Clears all counts.
+     * Values recorded concurrently with a reset may or may not survive it.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalValue.reset();
+    }
+    
+    /**
+     * Number of values at or below a percentile, at least 1
+     */
+    private static long rank(double percentile, long totalCount) {
+        double clamped = Math.min(100.0, Math.max(0.0, percentile));
+        return Math.max(1, (long) Math.ceil(clamped / 100.0 * totalCount));
+    }
+    
+    /**
+     * Immutable copy of histogram counts.
+     * Snapshots with the same layout can be merged, e.g. across time windows.
+     */
+    public static final class Snapshot {
+        
+        private final Layout layout;
+        private final long[] counts;
+        private final long totalCount;
+        
+        private Snapshot(Layout layout, long[] counts, long totalCount) {
+            this.layout = layout;
+            this.counts = counts;
+            this.totalCount = totalCount;
+        }
+        
+        /**
+         * @return The number of values in the snapshot
+         */
+        public long getTotalCount() {
+            return totalCount;
+        }
+        
+        /**
+         * Returns the value below or at which the given percentage of values fall.
+         * The result is the highest value equivalent to the matching bucket, so it
+         * never understates a latency.
+         * 
+         * @param percentile The percentile, 0 to 100
+         * @return The value at the percentile, or 0 if the snapshot is empty
+         */
+        public long valueAtPercentile(double percentile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+            long target = rank(percentile, totalCount);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return layout.highestEquivalentValue(i);
+                }
+            }
+            return layout.highestEquivalentValue(counts.length - 1);
+        }
+        
+        /**
+         * @return The highest value equivalent to the largest recorded value, or 0 if empty
+         */
+        public long getMaxValue() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return layout.highestEquivalentValue(i);
+                }
+            }
+            return 0;
+        }
+        
+        /**
+         * Adds the counts of another snapshot to this one.
+         * 
+         * @param other A snapshot of a histogram with the same range and precision
+         * @return A new snapshot holding both sets of counts
+         * @throws IllegalArgumentException if the layouts differ
+         */
+        public Snapshot merge(Snapshot other) {
+            if (!layout.equals(other.layout)) {
+                throw new IllegalArgumentException("Cannot merge histograms with different layouts");
+            }
+            long[] merged = counts.clone();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += other.counts[i];
+            }
+            return new Snapshot(layout, merged, totalCount + other.totalCount);
+        }
+    }
+    
+    /**
+     * Mapping between values and bucket indexes
+     */
+    private record Layout(int subBucketBits, int bucketCount, long highestTrackableValue) {
+        
+        static Layout of(long highestTrackableValue, int significantDigits) {
+            if (significantDigits < 1 || significantDigits > 5) {
+                throw new IllegalArgumentException("Significant digits must be between 1 and 5");
+            }
+            if (highestTrackableValue < 1) {
+                throw new IllegalArgumentException("Highest trackable value must be positive");
+            }
+            // Bucket width relative to its values is at most 2^(1-s), below 1 / 10^digits
+            long required = 2 * (long) Math.pow(10, significantDigits);
+            int subBucketBits = 64 - Long.numberOfLeadingZeros(required - 1);
+            int bucketCount = indexOf(subBucketBits, highestTrackableValue) + 1;
+            return new Layout(subBucketBits, bucketCount, highestTrackableValue);
+        }
+        
+        int indexOf(long value) {
+            return indexOf(subBucketBits, Math.min(Math.max(0, value), highestTrackableValue));
+        }
+        
+        private static int indexOf(int subBucketBits, long value) {
+            if (value < (1L << subBucketBits)) {
+                return (int) value;
+            }
+            int magnitude = 63 - Long.numberOfLeadingZeros(value);
+            int shift = magnitude - subBucketBits + 1;
+            int halfCount = 1 << (subBucketBits - 1);
+            return (1 << subBucketBits) + (magnitude - subBucketBits) * halfCount
+                   + (int) (value >>> shift) - halfCount;
+        }
+        
+        long highestEquivalentValue(int index) {
+            int linearCount = 1 << subBucketBits;
+            if (index < linearCount) {
+                return index;
+            }
+            int halfCount = linearCount >>> 1;
+            int range = (index - linearCount) / halfCount;
+            int subBucket = (index - linearCount) % halfCount + halfCount;
+            int shift = range + 1;
+            return (((long) subBucket + 1) << shift) - 1;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Encoder for the OpenMetrics text exposition format.
+ * 
+ * Writes ASCII directly into a growable byte buffer that is kept across
+ * scrapes, formatting numbers digit by digit instead of through strings, so
+ * a reused writer encodes a scrape without allocating. Not thread-safe; use
+ * one writer per concurrent scrape.
+ */
+public final class OpenMetricsWriter {
+    
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    
+    private static final int DEFAULT_CAPACITY = 16 * 1024;
+    private static final int FRACTION_DIGITS = 6;
+    private static final long FRACTION_SCALE = 1_000_000;
+    // Largest value whose scaled form still fits a long
+    private static final double MAX_FIXED_POINT = Long.MAX_VALUE / (double) FRACTION_SCALE;
+    
+    private byte[] buffer = new byte[DEFAULT_CAPACITY];
+    private final byte[] digits = new byte[20]; // Long.MAX_VALUE has 19 digits
+    private int length;
+    
+    /**
+     * Discards the encoded content, keeping the buffer.
+     */
+    public void reset() {
+        length = 0;
+    }
+    
+    /**
+     * Writes the TYPE and HELP lines of a metric family.
+     * 
+     * @param name The family name, without the _total suffix for counters or the
+     *             _count and _sum suffixes for summaries
+     * @param type The type: counter, gauge, summary, info or unknown
+     * @param help The description
+     */
+    public void family(String name, String type, String help) {
+        ascii("# TYPE ").ascii(name).ascii(' ').ascii(type).ascii('\n');
+        ascii("# HELP ").ascii(name).ascii(' ').escaped(help, false).ascii('\n');
+    }
+    
+    /**
+     * Writes an unlabelled sample.
+     */
+    public void sample(String name, double value) {
+        ascii(name).ascii(' ').number(value).ascii('\n');
+    }
+    
+    /**
+     * Writes an unlabelled integer sample.
+     */
+    public void sample(String name, long value) {
+        ascii(name).ascii(' ').number(value).ascii('\n');
+    }
+    
+    /**
+     * Writes a sample with one label.
+     */
+    public void sample(String name, String label, String labelValue, double value) {
+        ascii(name).ascii('{');
+        label(label, labelValue);
+        ascii('}').ascii(' ').number(value).ascii('\n');
+    }
+    
+    /**
+     * Writes an integer sample with one label.
+     */
+    public void sample(String name, String label, String labelValue, long value) {
+        ascii(name).ascii('{');
+        label(label, labelValue);
+        ascii('}').ascii(' ').number(value).ascii('\n');
+    }
+    
+    /**
+     * Writes an integer sample with three labels.
+     */
+    public void sample(String name, String label1, String value1, String label2, String value2,
+                       String label3, String value3, long value) {
+        ascii(name).ascii('{');
+        label(label1, value1);
+        ascii(',');
+        label(label2, value2);
+        ascii(',');
+        label(label3, value3);
+        ascii('}').ascii(' ').number(value).ascii('\n');
+    }
+    
+    /**
+     * Writes a sample with three labels.
+     */
+    public void sample(String name, String label1, String value1, String label2, String value2,
+                       String label3, String value3, double value) {
+        ascii(name).ascii('{');
+        label(label1, value1);
+        ascii(',');
+        label(label2, value2);
+        ascii(',');
+        label(label3, value3);
+        ascii('}').ascii(' ').number(value).ascii('\n');
+    }
+    
+    /**
+     * Writes the mandatory end-of-exposition marker.
+     */
+    public void end() {
+        ascii("# EOF\n");
+    }
+    
+    /**
+     * Copies the encoded content to a stream.
+     * 
+     * @param out The destination
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, length);
+    }
+    
+    /**
+     * @return The number of encoded bytes
+     */
+    public int size() {
+        return length;
+    }
+    
+    /**
+     * @return A copy of the encoded content; for tests and diagnostics
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+    
+    private void label(String name, String value) {
+        ascii(name).ascii('=').ascii('"').escaped(value, true).ascii('"');
+    }
+    
+    private OpenMetricsWriter number(long value) {
+        if (value == Long.MIN_VALUE) {
+            return ascii(Long.toString(value));
+        }
+        if (value < 0) {
+            ascii('-');
+            value = -value;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        ensureCapacity(digits.length - position);
+        System.arraycopy(digits, position, buffer, length, digits.length - position);
+        length += digits.length - position;
+        return this;
+    }
+    
+    private OpenMetricsWriter number(double value) {
+        if (Double.isNaN(value)) {
+            return ascii("NaN");
+        }
+        if (Double.isInfinite(value)) {
+            return ascii(value > 0 ? "+Inf" : "-Inf");
+        }
+        if (Math.abs(value) >= MAX_FIXED_POINT) {
+            // Rare magnitudes fall back to the JDK representation
+            return ascii(Double.toString(value));
+        }
+        
+        long scaled = Math.round(value * FRACTION_SCALE);
+        if (scaled < 0) {
+            ascii('-');
+            scaled = -scaled;
+        }
+        number(scaled / FRACTION_SCALE);
+        long fraction = scaled % FRACTION_SCALE;
+        if (fraction != 0) {
+            ascii('.');
+            long divisor = FRACTION_SCALE / 10;
+            for (int i = 0; i < FRACTION_DIGITS && fraction != 0; i++) {
+                ascii((char) ('0' + fraction / divisor));
+                fraction %= divisor;
+                divisor /= 10;
+            }
+        }
+        return this;
+    }
+    
+    private OpenMetricsWriter escaped(String text, boolean quoted) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                ascii("\\\\");
+            } else if (c == '\n') {
+                ascii("\\n");
+            } else if (c == '"' && quoted) {
+                ascii("\\\"");
+            } else {
+                ascii(c < 0x80 ? c : '?');
+            }
+        }
+        return this;
+    }
+    
+    private OpenMetricsWriter ascii(String text) {
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[length++] = (byte) text.charAt(i);
+        }
+        return this;
+    }
+    
+    private OpenMetricsWriter ascii(char c) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) c;
+        return this;
+    }
+    
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
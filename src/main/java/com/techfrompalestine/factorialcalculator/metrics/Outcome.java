@@ -0,0 +1,24 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+/**
+ * How a factorial request ended.
+ */
+public enum Outcome {
+    SUCCESS("success"),
+    VALIDATION_ERROR("validation_error"),
+    INVALID_TOKEN("invalid_token"),
+    INTERRUPTED("interrupted");
+    
+    private final String label;
+    
+    Outcome(String label) {
+        this.label = label;
+    }
+    
+    /**
+     * @return The label used when publishing metrics
+     */
+    public String getLabel() {
+        return label;
+    }
+}
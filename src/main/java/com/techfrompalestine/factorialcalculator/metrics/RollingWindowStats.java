@@ -0,0 +1,249 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-based request statistics over the last 1, 5 and 15 minutes.
+ * 
+ * Samples land in a rotating array of per-second buckets covering 15 minutes,
+ * so memory is the same at any throughput and a window always means the same
+ * span of time. Recording touches only the current bucket. Window reads sum
+ * at most 900 buckets, however many requests were recorded.
+ * 
+ * Exponentially weighted request rates and mean latencies are derived from the
+ * same buckets in 5-second ticks. The first sample or read after a tick
+ * boundary folds the completed tick in, so under traffic the averages never
+ * fall behind the bucket history.
+ */
+public class RollingWindowStats {
+    
+    // Window lengths in seconds
+    public static final int ONE_MINUTE = 60;
+    public static final int FIVE_MINUTES = 300;
+    public static final int FIFTEEN_MINUTES = 900;
+    
+    private static final int[] EWMA_WINDOWS = {ONE_MINUTE, FIVE_MINUTES, FIFTEEN_MINUTES};
+    private static final int TICK_SECONDS = 5;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(FIFTEEN_MINUTES);
+    private final AtomicReference<Ewma> ewma = new AtomicReference<>(Ewma.EMPTY);
+    
+    /**
+     * Creates statistics driven by System.nanoTime.
+     */
+    public RollingWindowStats() {
+        this(System::nanoTime);
+    }
+    
+    /**
+     * Creates statistics driven by the given clock.
+     * 
+     * @param nanoClock Monotonic clock in nanoseconds
+     */
+    public RollingWindowStats(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+    
+    /**
+     * Records one request.
+     * 
+     * @param latencyNanos The request latency in nanoseconds
+     */
+    public void record(long latencyNanos) {
+        long second = currentSecond();
+        bucketFor(second).record(latencyNanos);
+        if (second / TICK_SECONDS > ewma.get().ticks) {
+            ewma();
+        }
+    }
+    
+    /**
+     * Summarizes the requests of the last given seconds, including the current one.
+     * 
+     * @param seconds The window length, at most {@link #FIFTEEN_MINUTES}
+     * @return The window summary
+     */
+    public Window window(int seconds) {
+        if (seconds < 1 || seconds > FIFTEEN_MINUTES) {
+            throw new IllegalArgumentException("Window must be between 1 and " + FIFTEEN_MINUTES + " seconds");
+        }
+        long now = currentSecond();
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        for (long second = Math.max(0, now - seconds + 1); second <= now; second++) {
+            Bucket bucket = buckets.get(slot(second));
+            if (bucket != null && bucket.second == second) {
+                count += bucket.count.sum();
+                sum += bucket.sumNanos.sum();
+                max = Math.max(max, bucket.maxNanos.get());
+            }
+        }
+        // Before a full window has elapsed, rates are over the time actually covered
+        long covered = Math.min(seconds, now + 1);
+        return new Window(seconds, count, (double) count / covered, count == 0 ? 0 : (double) sum / count, max);
+    }
+    
+    /**
+     * Returns the exponentially weighted rates and latencies as of the last complete tick.
+     * 
+     * @return The moving averages
+     */
+    public Ewma ewma() {
+        long completedTicks = currentSecond() / TICK_SECONDS;
+        while (true) {
+            Ewma current = ewma.get();
+            if (current.ticks >= completedTicks) {
+                return current;
+            }
+            Ewma updated = advance(current, completedTicks);
+            if (ewma.compareAndSet(current, updated)) {
+                return updated;
+            }
+        }
+    }
+    
+    private Ewma advance(Ewma state, long completedTicks) {
+        double[] rates = state.rates.clone();
+        double[] latencies = state.latencies.clone();
+        // Ticks older than the bucket history are empty, so they only decay the averages
+        long firstReadable = Math.max(state.ticks, completedTicks - FIFTEEN_MINUTES / TICK_SECONDS);
+        for (int w = 0; w < EWMA_WINDOWS.length; w++) {
+            rates[w] *= Math.pow(1 - alpha(EWMA_WINDOWS[w]), firstReadable - state.ticks);
+        }
+        
+        for (long tick = firstReadable; tick < completedTicks; tick++) {
+            long count = 0;
+            long sum = 0;
+            for (long second = tick * TICK_SECONDS; second < (tick + 1) * TICK_SECONDS; second++) {
+                Bucket bucket = buckets.get(slot(second));
+                if (bucket != null && bucket.second == second) {
+                    count += bucket.count.sum();
+                    sum += bucket.sumNanos.sum();
+                }
+            }
+            double rate = (double) count / TICK_SECONDS;
+            for (int w = 0; w < EWMA_WINDOWS.length; w++) {
+                double alpha = alpha(EWMA_WINDOWS[w]);
+                rates[w] += alpha * (rate - rates[w]);
+                if (count > 0) {
+                    double mean = (double) sum / count;
+                    // The first interval with traffic seeds the average instead of decaying from zero
+                    latencies[w] = latencies[w] == 0 ? mean : latencies[w] + alpha * (mean - latencies[w]);
+                }
+            }
+        }
+        return new Ewma(completedTicks, rates, latencies);
+    }
+    
+    private static double alpha(int windowSeconds) {
+        return 1 - Math.exp(-(double) TICK_SECONDS / windowSeconds);
+    }
+    
+    private Bucket bucketFor(long second) {
+        int slot = slot(second);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.second == second) {
+                return bucket;
+            }
+            // First sample of a new second takes over the slot from 15 minutes ago
+            Bucket fresh = new Bucket(second);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+    
+    private long currentSecond() {
+        return (nanoClock.getAsLong() - startNanos) / NANOS_PER_SECOND;
+    }
+    
+    private static int slot(long second) {
+        return (int) (second % FIFTEEN_MINUTES);
+    }
+    
+    /**
+     * Counters of one second
+     */
+    private static final class Bucket {
+        private final long second;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sumNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        
+        Bucket(long second) {
+            this.second = second;
+        }
+        
+        void record(long latencyNanos) {
+            count.increment();
+            sumNanos.add(latencyNanos);
+            maxNanos.accumulateAndGet(latencyNanos, Math::max);
+        }
+    }
+    
+    /**
+     * Requests of one time window.
+     * 
+     * @param seconds The window length
+     * @param count Requests in the window
+     * @param ratePerSecond Average requests per second
+     * @param meanNanos Mean latency, 0 without requests
+     * @param maxNanos Largest latency, 0 without requests
+     */
+    public record Window(int seconds, long count, double ratePerSecond, double meanNanos, long maxNanos) {
+    }
+    
+    /**
+     * Exponentially weighted moving averages over 1, 5 and 15 minutes.
+     * Rates are requests per second, latencies are nanoseconds.
+     */
+    public static final class Ewma {
+        
+        private static final Ewma EMPTY = new Ewma(0, new double[EWMA_WINDOWS.length], new double[EWMA_WINDOWS.length]);
+        
+        private final long ticks;
+        private final double[] rates;
+        private final double[] latencies;
+        
+        private Ewma(long ticks, double[] rates, double[] latencies) {
+            this.ticks = ticks;
+            this.rates = rates;
+            this.latencies = latencies;
+        }
+        
+        public double getOneMinuteRate() {
+            return rates[0];
+        }
+        
+        public double getFiveMinuteRate() {
+            return rates[1];
+        }
+        
+        public double getFifteenMinuteRate() {
+            return rates[2];
+        }
+        
+        public double getOneMinuteLatencyNanos() {
+            return latencies[0];
+        }
+        
+        public double getFiveMinuteLatencyNanos() {
+            return latencies[1];
+        }
+        
+        public double getFifteenMinuteLatencyNanos() {
+            return latencies[2];
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.techfrompalestine.factorialcalculator.util.LogCalcUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous audit log of completed calculations.
+ *
+ * Request threads only sample, rate-limit and copy each event into a
+ * preallocated ring of primitives; they never format, allocate, block or
+ * touch an appender. A single background thread drains the ring in batches
+ * and writes the log lines through {@link LogCalcUtil}. When the ring is
+ * full the event is dropped and counted, so a slow appender can lose audit
+ * lines but never slow down a request.
+ *
+ * Producers claim a slot with a CAS on the tail sequence, write the event
+ * fields and publish the slot by storing its sequence with release
+ * semantics; the consumer reads a slot once its published sequence matches.
+ */
+@Service
+public class CalculationAuditLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalculationAuditLog.class);
+
+    // Event encoding: type, strategy code and batch size above the 32-bit input
+    private static final int TYPE_SHIFT = 56;
+    private static final int STRATEGY_SHIFT = 48;
+    private static final int COUNT_SHIFT = 32;
+    private static final long SINGLE = 1;
+    private static final long BATCH = 2;
+    private static final int MAX_STRATEGIES = 256;
+    private static final int MAX_COUNT = 0xFFFF;
+
+    // Rate limit window: epoch second above a 24-bit event count
+    private static final int RATE_COUNT_BITS = 24;
+    private static final long RATE_COUNT_MASK = (1L << RATE_COUNT_BITS) - 1;
+
+    private static final String DRAIN_THREAD = "calculation-audit";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 2_000;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int mask;
+    private final double sampleRate;
+    private final long maxEventsPerSecond;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final EventSink sink;
+
+    // Ring of events, two words per slot, published through the slot sequence
+    private final long[] events;
+    private final AtomicLongArray published;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final Map<String, Integer> strategyCodes = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<String> strategyNames = new AtomicReferenceArray<>(MAX_STRATEGIES);
+    private final AtomicLong rateWindow = new AtomicLong();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+
+    private volatile boolean running;
+    private Thread drainThread;
+
+    /**
+     * Constructor with default settings, writing to the application log.
+     */
+    public CalculationAuditLog() {
+        this(true, 8192, 1.0, 0, 256, 100, new LogSink());
+    }
+
+    @Autowired
+    public CalculationAuditLog(@Value("${app.audit.enabled:true}") boolean enabled,
+                               @Value("${app.audit.buffer-size:8192}") int bufferSize,
+                               @Value("${app.audit.sample-rate:1.0}") double sampleRate,
+                               @Value("${app.audit.max-events-per-second:0}") long maxEventsPerSecond,
+                               @Value("${app.audit.batch-size:256}") int batchSize,
+                               @Value("${app.audit.flush-interval-ms:100}") long flushIntervalMillis) {
+        this(enabled, bufferSize, sampleRate, maxEventsPerSecond, batchSize, flushIntervalMillis, new LogSink());
+    }
+
+    /**
+     * Constructor writing drained events to the given sink.
+     *
+     * @param enabled Whether events are recorded at all
+     * @param bufferSize Ring capacity in events, rounded up to a power of two
+     * @param sampleRate Fraction of events recorded, from 0 to 1
+     * @param maxEventsPerSecond Recorded events allowed per second, or 0 for no limit
+     * @param batchSize Events drained per batch
+     * @param flushIntervalMillis Pause of the drain thread when the ring is empty
+     * @param sink Destination of drained events
+     */
+    public CalculationAuditLog(boolean enabled, int bufferSize, double sampleRate, long maxEventsPerSecond,
+                               int batchSize, long flushIntervalMillis, EventSink sink) {
+        this.enabled = enabled;
+        this.capacity = Integer.highestOneBit(Math.max(2, Math.min(bufferSize, 1 << 24)) * 2 - 1);
+        this.mask = capacity - 1;
+        this.sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+        this.maxEventsPerSecond = Math.max(0, Math.min(maxEventsPerSecond, RATE_COUNT_MASK));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+        this.sink = sink;
+        this.events = new long[capacity * 2];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Starts the drain thread. Called automatically after bean construction.
+     */
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            logger.info("Calculation audit log disabled");
+            return;
+        }
+        running = true;
+        drainThread = Thread.ofPlatform().name(DRAIN_THREAD).daemon(true).start(this::drainLoop);
+        logger.info("Calculation audit log initialized with buffer: {}, sample rate: {}, limit: {}/s",
+                    capacity, sampleRate, maxEventsPerSecond == 0 ? "none" : maxEventsPerSecond);
+    }
+
+    /**
+     * Stops the drain thread after writing the remaining events.
+     */
+    @PreDestroy
+    public void close() {
+        if (drainThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records a completed single calculation.
+     *
+     * @param strategy The strategy used
+     * @param number The calculated input
+     * @return true if the event was queued
+     */
+    public boolean recordCalculation(String strategy, int number) {
+        return record(SINGLE, strategy, 0, number);
+    }
+
+    /**
+     * Records a completed batch calculation.
+     *
+     * @param strategy The strategy used
+     * @param count The number of inputs in the batch
+     * @param largest The largest input
+     * @return true if the event was queued
+     */
+    public boolean recordBatch(String strategy, int count, int largest) {
+        return record(BATCH, strategy, Math.min(count, MAX_COUNT), largest);
+    }
+
+    private boolean record(long type, String strategy, int count, int number) {
+        if (!enabled) {
+            return false;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            sampledOut.increment();
+            return false;
+        }
+        if (maxEventsPerSecond > 0 && !acquirePermit()) {
+            rateLimited.increment();
+            return false;
+        }
+
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & mask);
+        events[slot * 2] = type << TYPE_SHIFT | (long) strategyCode(strategy) << STRATEGY_SHIFT
+                           | (long) count << COUNT_SHIFT | (number & 0xFFFFFFFFL);
+        events[slot * 2 + 1] = System.currentTimeMillis();
+        published.setRelease(slot, sequence);
+        return true;
+    }
+
+    /**
+     * Takes one event from the per-second budget.
+     */
+    private boolean acquirePermit() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        while (true) {
+            long window = rateWindow.get();
+            long next;
+            if (window >>> RATE_COUNT_BITS != second) {
+                next = second << RATE_COUNT_BITS | 1;
+            } else if ((window & RATE_COUNT_MASK) >= maxEventsPerSecond) {
+                return false;
+            } else {
+                next = window + 1;
+            }
+            if (rateWindow.compareAndSet(window, next)) {
+                return true;
+            }
+        }
+    }
+
+    private int strategyCode(String strategy) {
+        Integer code = strategyCodes.get(strategy);
+        if (code != null) {
+            return code;
+        }
+        synchronized (strategyCodes) {
+            return strategyCodes.computeIfAbsent(strategy, name -> {
+                int next = Math.min(strategyCodes.size(), MAX_STRATEGIES - 1);
+                strategyNames.compareAndSet(next, null, name);
+                return next;
+            });
+        }
+    }
+
+    /**
+     * Writes queued events to the sink, at most one batch.
+     *
+     * @return The number of events written
+     */
+    int drain() {
+        long sequence = head;
+        int drained = 0;
+        try {
+            while (drained < batchSize) {
+                int slot = (int) (sequence & mask);
+                if (published.getAcquire(slot) != sequence) {
+                    break;
+                }
+                long word = events[slot * 2];
+                long epochMillis = events[slot * 2 + 1];
+                sequence++;
+                drained++;
+                
+                String strategy = strategyNames.get((int) (word >>> STRATEGY_SHIFT) & 0xFF);
+                int number = (int) word;
+                if (word >>> TYPE_SHIFT == BATCH) {
+                    sink.batch(strategy, (int) (word >>> COUNT_SHIFT) & MAX_COUNT, number, epochMillis);
+                } else {
+                    sink.calculation(strategy, number, epochMillis);
+                }
+            }
+        } finally {
+            // Frees the drained slots for producers; an event the sink failed on is skipped
+            head = sequence;
+            written.add(drained);
+        }
+        return drained;
+    }
+
+    private void drainLoop() {
+        long reportedDrops = 0;
+        while (running) {
+            try {
+                if (drain() < batchSize) {
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                }
+                long drops = dropped.sum();
+                if (drops != reportedDrops) {
+                    logger.warn("Calculation audit log dropped {} events, buffer full", drops - reportedDrops);
+                    reportedDrops = drops;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Calculation audit log failed to write events: {}", e.getMessage());
+            }
+        }
+        while (drain() > 0) {
+            // Flushes events queued before shutdown
+        }
+    }
+
+    // Statistics for the metrics endpoint
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Destination of drained audit events; called from the drain thread only.
+     */
+    public interface EventSink {
+        void calculation(String strategy, int number, long epochMillis);
+
+        void batch(String strategy, int count, int largest, long epochMillis);
+    }
+
+    /**
+     * Writes audit events as calculation log lines.
+     */
+    private static class LogSink implements EventSink {
+        @Override
+        public void calculation(String strategy, int number, long epochMillis) {
+            LogCalcUtil.logCalc(strategy, number, epochMillis);
+        }
+
+        @Override
+        public void batch(String strategy, int count, int largest, long epochMillis) {
+            LogCalcUtil.logBatchCalc(strategy, count, largest, epochMillis);
+        }
+    }
+}
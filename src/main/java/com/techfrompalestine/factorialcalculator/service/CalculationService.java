@@ -1,33 +1,66 @@
 package com.techfrompalestine.factorialcalculator.service;
 
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.math.ProductTree;
+import com.techfrompalestine.factorialcalculator.strategy.BigFactorialStrategy;
 import com.techfrompalestine.factorialcalculator.strategy.FactorialStrategy;
 import com.techfrompalestine.factorialcalculator.strategy.IterativeFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.ParallelFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.PrimeSwingFactorialStrategy;
 import com.techfrompalestine.factorialcalculator.strategy.RecursiveFactorialStrategy;
-import com.techfrompalestine.factorialcalculator.util.LogCalcUtil;
+import com.techfrompalestine.factorialcalculator.strategy.SplitRecursiveFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.util.FactorialValidator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Service for mathematical calculations using strategy pattern.
+ * 
+ * Strategies returning a long are limited to 20!; the arbitrary-precision
+ * strategies accept inputs up to {@link FactorialValidator#getMaxLargeFactorial()}
+ * and are served through the {@link FactorialCache}.
  */
 @Service
 public class CalculationService {
     
     private static final Logger logger = LoggerFactory.getLogger(CalculationService.class);
     
-    private final FactorialStrategy iterativeStrategy;
-    private final FactorialStrategy recursiveStrategy;
+    private final Map<String, FactorialStrategy> strategies;
+    private final Map<String, BigFactorialStrategy> bigStrategies;
+    private final FactorialCache factorialCache;
+    private final MultiplicationKernel kernel;
+    private final CalculationAuditLog auditLog;
     
     @Value("${app.factorial.strategy:iterative}")
     private String strategyType;
     
     public CalculationService(IterativeFactorialStrategy iterativeStrategy, 
-                            RecursiveFactorialStrategy recursiveStrategy) {
-        this.iterativeStrategy = iterativeStrategy;
-        this.recursiveStrategy = recursiveStrategy;
+                            RecursiveFactorialStrategy recursiveStrategy,
+                            SplitRecursiveFactorialStrategy splitRecursiveStrategy,
+                            PrimeSwingFactorialStrategy primeSwingStrategy,
+                            ParallelFactorialStrategy parallelStrategy,
+                            FactorialCache factorialCache,
+                            MultiplicationKernel kernel,
+                            CalculationAuditLog auditLog) {
+        this.factorialCache = factorialCache;
+        this.kernel = kernel;
+        this.auditLog = auditLog;
+        this.strategies = Map.of(
+            "recursive", recursiveStrategy,
+            "iterative", iterativeStrategy
+        );
+        this.bigStrategies = Map.of(
+            "split-recursive", splitRecursiveStrategy,
+            "prime-swing", primeSwingStrategy,
+            "parallel", parallelStrategy
+        );
     }
     
     /**
@@ -37,41 +70,115 @@ public class CalculationService {
      * @return The factorial result
      * @throws InterruptedException if the calculation is interrupted
      */
-    public long factorial(int number) throws InterruptedException {
+    public BigInteger factorial(int number) throws InterruptedException {
         logger.debug("Calculating factorial for number: {}", number);
         
-        Map<String, FactorialStrategy> strategies = Map.of(
-            "recursive", recursiveStrategy,
-            "iterative", iterativeStrategy
-        );
-        FactorialStrategy strategy = strategies.get(strategyType);
-
-        long result = strategy.calculate(number);
+        BigInteger result;
+        if (isLargeStrategy()) {
+            FactorialValidator.validateLargeInput(number);
+            result = factorialCache.getOrCompute(number, bigStrategies.get(strategyType)::calculate);
+        } else {
+            FactorialStrategy strategy = strategies.get(strategyType);
+            result = BigInteger.valueOf(strategy.calculate(number));
+        }
 
-        LogCalcUtil.logCalc(strategyType, number);
+        auditLog.recordCalculation(strategyType, number);
         
         return result;
     }
     
+    /**
+     * Calculates the factorials of several numbers in one ascending pass.
+     * 
+     * The inputs are sorted and deduplicated; the smallest is calculated with the
+     * configured strategy and every larger one extends the same running product,
+     * so the total work is that of the largest factorial alone.
+     * 
+     * @param numbers The numbers to calculate factorials for
+     * @return The factorials, in the order of the given numbers
+     * @throws IllegalArgumentException if the batch or any input is invalid, or if
+     *         the results would exceed the batch output limit
+     * @throws InterruptedException if the calculation is interrupted
+     */
+    public List<BigInteger> factorials(List<Integer> numbers) throws InterruptedException {
+        FactorialValidator.validateBatchSize(numbers.size());
+        FactorialValidator.validateBatchEntries(numbers);
+        int[] ascending = numbers.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        for (int number : ascending) {
+            validateInput(number);
+        }
+        FactorialValidator.validateBatchOutput(numbers);
+        logger.debug("Calculating batch of {} factorials up to {}", ascending.length, ascending[ascending.length - 1]);
+        
+        BigInteger[] results = new BigInteger[ascending.length];
+        results[0] = factorial(ascending[0]);
+        for (int i = 1; i < ascending.length; i++) {
+            BigInteger extension = ProductTree.product(kernel, ascending[i - 1] + 1, ascending[i]);
+            results[i] = kernel.multiply(results[i - 1], extension);
+            if (isLargeStrategy()) {
+                factorialCache.put(ascending[i], results[i]);
+            }
+        }
+        
+        auditLog.recordBatch(strategyType, numbers.size(), ascending[ascending.length - 1]);
+        
+        List<BigInteger> ordered = new ArrayList<>(numbers.size());
+        for (int number : numbers) {
+            ordered.add(results[Arrays.binarySearch(ascending, number)]);
+        }
+        return ordered;
+    }
+    
+    /**
+     * Validates an input against the limit of the configured strategy.
+     */
+    private void validateInput(int number) {
+        if (isLargeStrategy()) {
+            FactorialValidator.validateLargeInput(number);
+        } else {
+            FactorialValidator.validateInput(number);
+        }
+    }
+    
     /**
      * Gets the maximum safe input for factorial calculation.
      */
     public int getMaxSafeFactorialInput() {
-        return 20;
+        return isLargeStrategy()
+                ? FactorialValidator.getMaxLargeFactorial()
+                : FactorialValidator.getMaxSafeFactorial();
     }
     
     /**
      * Checks if a number is valid for factorial calculation.
      */
     public boolean isValidFactorialInput(int number) {
-        return number >= 0 && number <= 20;
+        return number >= 0 && number <= getMaxSafeFactorialInput();
     }
 
     /**
      * Gets the current strategy type being used.
-     * @return The strategy type (iterative or recursive)
+     * @return The strategy type (iterative, recursive, split-recursive, prime-swing or parallel)
      */
     public String getStrategyType() {
         return strategyType;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Gets the names of all available strategies.
+     * @return The strategy names in alphabetical order
+     */
+    public List<String> getStrategyNames() {
+        List<String> names = new ArrayList<>(strategies.keySet());
+        names.addAll(bigStrategies.keySet());
+        names.sort(null);
+        return names;
+    }
+    
+    /**
+     * Checks whether the configured strategy produces arbitrary-precision results.
+     */
+    public boolean isLargeStrategy() {
+        return bigStrategies.containsKey(strategyType);
+    }
+}
@@ -1,17 +1,27 @@
 package com.techfrompalestine.factorialcalculator.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service responsible for generating consistent colors based on input strings.
  * Uses SHA-256 hashing to ensure the same input always produces the same color.
  * 
  * Uses Material Design colors for better visual appeal and consistency.
+ * 
+ * Colors are memoized: the badge inputs from the application properties are
+ * resolved at startup, so a badge lookup is a single map read. Other inputs
+ * are cached up to a fixed number of entries. The "fast" hash mode replaces
+ * SHA-256 with a non-cryptographic hash for misses, at the cost of picking
+ * different colors than the default "sha256" mode.
  */
 @Service
 public class ColorService {
@@ -21,6 +31,9 @@ public class ColorService {
     // Color generation algorithm constants
     private static final String HASH_ALGORITHM = "SHA-256";
     private static final String FALLBACK_COLOR = "#2196F3";
+    private static final String FAST_HASH_MODE = "fast";
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
     
     // Material Design colors - optimized for background use with white text
     private static final String[] MATERIAL_COLORS = {
@@ -74,6 +87,44 @@ public class ColorService {
         "#FF5722"  // Deep Orange (500)
     };
     
+    private final Map<String, String> colorCache = new ConcurrentHashMap<>();
+    private final boolean fastHash;
+    private final int maxCachedColors;
+    
+    /**
+     * Constructor with the default hash mode and cache bound, without prefilled colors.
+     */
+    public ColorService() {
+        this("sha256", 256, null, null, null);
+    }
+    
+    /**
+     * Constructor prefilling the colors of the configured badges.
+     * 
+     * @param hashMode "sha256" for the original colors or "fast" for a non-cryptographic hash
+     * @param maxCachedColors Maximum number of memoized colors
+     * @param environment The application environment badge
+     * @param author The application author badge
+     * @param version The application version badge
+     */
+    @Autowired
+    public ColorService(@Value("${app.color.hash-mode:sha256}") String hashMode,
+                        @Value("${app.color.cache-size:256}") int maxCachedColors,
+                        @Value("${app.env:#{null}}") String environment,
+                        @Value("${app.author:#{null}}") String author,
+                        @Value("${app.version:#{null}}") String version) {
+        this.fastHash = FAST_HASH_MODE.equalsIgnoreCase(hashMode);
+        this.maxCachedColors = Math.max(0, maxCachedColors);
+        
+        for (String badge : new String[] {environment, author, version}) {
+            if (badge != null) {
+                colorCache.put(badge, computeColor(badge));
+            }
+        }
+        logger.info("ColorService initialized with hash mode: {}, {} prefilled colors", 
+                    fastHash ? FAST_HASH_MODE : "sha256", colorCache.size());
+    }
+    
     /**
      * Generates a color for environment badges.
      * 
@@ -105,20 +156,49 @@ public class ColorService {
     }
     
     /**
-     * Generates a color based on input string.
+     * Gets the number of memoized colors.
+     * 
+     * @return The cache size
+     */
+    public int getCachedColorCount() {
+        return colorCache.size();
+    }
+    
+    /**
+     * Generates a color based on input string, memoized.
      * 
      * @param input The input string to generate color from
      * @return A hex color string
      */
     private String generateColor(String input) {
-        if (input == null || input.trim().isEmpty()) {
+        if (input == null) {
+            logger.warn("Empty or null input provided for color generation, using fallback color");
+            return FALLBACK_COLOR;
+        }
+        String cached = colorCache.get(input);
+        if (cached != null) {
+            return cached;
+        }
+        
+        String color = computeColor(input);
+        // Inputs beyond the bound are recomputed on every call instead of growing the cache
+        if (colorCache.size() < maxCachedColors) {
+            colorCache.putIfAbsent(input, color);
+        }
+        return color;
+    }
+    
+    /**
+     * Picks the palette color of an input with the configured hash.
+     */
+    private String computeColor(String input) {
+        if (input.trim().isEmpty()) {
             logger.warn("Empty or null input provided for color generation, using fallback color");
             return FALLBACK_COLOR;
         }
         
         try {
-            byte[] hash = generateHash(input);
-            int colorIndex = Math.abs(hash[0]) % MATERIAL_COLORS.length;
+            int colorIndex = fastHash ? fastColorIndex(input) : sha256ColorIndex(input);
             String selectedColor = MATERIAL_COLORS[colorIndex];
             
             logger.debug("Generated color {} for input '{}'", selectedColor, input);
@@ -132,10 +212,23 @@ public class ColorService {
     }
     
     /**
-     * Generates SHA-256 hash for the input string.
+     * Palette index from the first byte of the SHA-256 digest; the original mapping.
+     * A digest is created per call: misses are rare behind the cache, and a
+     * per-thread digest would be thrown away with every virtual thread.
+     */
+    private static int sha256ColorIndex(String input) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance(HASH_ALGORITHM).digest(input.getBytes(StandardCharsets.UTF_8));
+        return Math.abs(hash[0]) % MATERIAL_COLORS.length;
+    }
+    
+    /**
+     * Palette index from a 32-bit FNV-1a hash of the UTF-16 code units.
      */
-    private byte[] generateHash(String input) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
-        return digest.digest(input.getBytes(StandardCharsets.UTF_8));
+    private static int fastColorIndex(String input) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < input.length(); i++) {
+            hash = (hash ^ input.charAt(i)) * FNV_PRIME;
+        }
+        return Integer.remainderUnsigned(hash, MATERIAL_COLORS.length);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,323 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.dto.FactorialAnalyticsResponse;
+import com.techfrompalestine.factorialcalculator.dto.PrimeExponent;
+import com.techfrompalestine.factorialcalculator.math.Primes;
+import com.techfrompalestine.factorialcalculator.math.ProductTree;
+import com.techfrompalestine.factorialcalculator.util.FactorialValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Properties of n! that are answered without expanding it, for n up to
+ * {@link FactorialValidator#getMaxAnalyticsInput()}.
+ *
+ * Prime exponents and trailing zeros follow from Legendre's formula in
+ * O(log n). The digit count and leading digits follow from log10(n!), which is
+ * taken from the Stirling series of ln Γ(n + 1) evaluated to 64 significant
+ * digits; at the largest input that leaves more than 40 correct fractional
+ * digits. Small inputs, where the series is not yet accurate enough, are
+ * expanded exactly. The complete factorization lists every prime up to n and
+ * is therefore limited to app.analytics.max-factorization-input.
+ */
+@Service
+public class FactorialAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FactorialAnalyticsService.class);
+
+    // Working precision of the logarithms and the cut-off of the series
+    private static final MathContext PRECISION = new MathContext(64, RoundingMode.HALF_EVEN);
+    private static final BigDecimal EPSILON = BigDecimal.ONE.movePointLeft(PRECISION.getPrecision() + 4);
+
+    // Halvings of the exponential's argument; each squaring back loses about one bit
+    private static final int EXP_HALVINGS = 8;
+
+    // Below this input the first omitted Stirling term exceeds the working precision
+    private static final int STIRLING_THRESHOLD = 200;
+
+    // Request limits
+    private static final int MAX_LEADING_DIGITS = 30;
+    private static final int MAX_PRIMES = 64;
+
+    // B(2k) / (2k (2k - 1)) for k = 1..10, the coefficients of 1 / n^(2k - 1) in the Stirling series
+    private static final BigDecimal[] STIRLING_COEFFICIENTS = {
+        ratio(1, 12), ratio(-1, 360), ratio(1, 1260), ratio(-1, 1680), ratio(1, 1188),
+        ratio(-691, 360360), ratio(1, 156), ratio(-3617, 122400), ratio(43867, 244188), ratio(-174611, 125400)
+    };
+
+    // ln 2 = 2 atanh(1/3), ln 10 = 3 ln 2 + 2 atanh(1/9) and ln(2π) / 2 from Machin's formula for π
+    private static final BigDecimal LN_2 = atanh(ratio(1, 3)).multiply(BigDecimal.TWO);
+    private static final BigDecimal LN_10 = LN_2.multiply(BigDecimal.valueOf(3))
+            .add(atanh(ratio(1, 9)).multiply(BigDecimal.TWO), PRECISION);
+    private static final BigDecimal HALF_LN_2PI = halfLnTwoPi();
+
+    private final long maxFactorizationInput;
+
+    public FactorialAnalyticsService(
+            @Value("${app.analytics.max-factorization-input:100000}") long maxFactorizationInput) {
+        this.maxFactorizationInput = Math.min(maxFactorizationInput, Integer.MAX_VALUE - 1);
+        logger.info("Factorial analytics initialized, inputs up to {}, factorization up to {}",
+                    FactorialValidator.getMaxAnalyticsInput(), this.maxFactorizationInput);
+    }
+
+    /**
+     * Describes n! by its size, trailing zeros, leading digits and the exponents of the given primes.
+     *
+     * @param number The factorial input
+     * @param leadingDigitCount The number of leading digits to return
+     * @param primes The primes whose exponents are returned
+     * @return The analytics of number!
+     * @throws IllegalArgumentException if an input is out of range or a prime is not prime
+     */
+    public FactorialAnalyticsResponse describe(long number, int leadingDigitCount, List<Long> primes) {
+        FactorialValidator.validateAnalyticsInput(number);
+        validateLeadingDigitCount(leadingDigitCount);
+        if (primes.size() > MAX_PRIMES) {
+            throw new IllegalArgumentException(
+                String.format("Too many primes. Maximum number of primes is %d", MAX_PRIMES)
+            );
+        }
+
+        List<PrimeExponent> exponents = new ArrayList<>(primes.size());
+        for (Long prime : primes) {
+            exponents.add(new PrimeExponent(prime, primeExponent(number, prime)));
+        }
+
+        long digits;
+        String leading;
+        if (number < STIRLING_THRESHOLD) {
+            String exact = ProductTree.product(2, (int) number).toString();
+            digits = exact.length();
+            leading = exact.substring(0, Math.min(leadingDigitCount, exact.length()));
+        } else {
+            BigDecimal log10 = log10Factorial(number);
+            digits = digitCount(log10);
+            leading = leadingDigits(log10, leadingDigitCount);
+        }
+        return new FactorialAnalyticsResponse(number, digits, trailingZeros(number), leading, exponents);
+    }
+
+    /**
+     * Counts the decimal digits of n!.
+     *
+     * @param number The factorial input
+     * @return The number of digits
+     */
+    public long digitCount(long number) {
+        FactorialValidator.validateAnalyticsInput(number);
+        if (number < STIRLING_THRESHOLD) {
+            return ProductTree.product(2, (int) number).toString().length();
+        }
+        return digitCount(log10Factorial(number));
+    }
+
+    /**
+     * Gets the leading decimal digits of n!.
+     *
+     * @param number The factorial input
+     * @param count The number of digits, at most {@value #MAX_LEADING_DIGITS}
+     * @return The leading digits, or all digits if n! is shorter
+     */
+    public String leadingDigits(long number, int count) {
+        FactorialValidator.validateAnalyticsInput(number);
+        validateLeadingDigitCount(count);
+        if (number < STIRLING_THRESHOLD) {
+            String exact = ProductTree.product(2, (int) number).toString();
+            return exact.substring(0, Math.min(count, exact.length()));
+        }
+        return leadingDigits(log10Factorial(number), count);
+    }
+
+    /**
+     * Counts the trailing decimal zeros of n!, the exponent of 5 in it.
+     *
+     * @param number The factorial input
+     * @return The number of trailing zeros
+     */
+    public long trailingZeros(long number) {
+        FactorialValidator.validateAnalyticsInput(number);
+        return Primes.legendreExponent(number, 5);
+    }
+
+    /**
+     * Gets the exponent of a prime in n!.
+     *
+     * @param number The factorial input
+     * @param prime The prime
+     * @return The exponent of the prime
+     * @throws IllegalArgumentException if prime is not a prime
+     */
+    public long primeExponent(long number, long prime) {
+        FactorialValidator.validateAnalyticsInput(number);
+        if (!Primes.isPrime(prime)) {
+            throw new IllegalArgumentException(String.format("%d is not a prime", prime));
+        }
+        return Primes.legendreExponent(number, prime);
+    }
+
+    /**
+     * Factorizes n! into all primes up to n.
+     *
+     * @param number The factorial input, at most app.analytics.max-factorization-input
+     * @return Every prime up to number with its exponent, ascending
+     */
+    public List<PrimeExponent> primeFactorization(long number) {
+        FactorialValidator.validateAnalyticsInput(number);
+        if (number > maxFactorizationInput) {
+            throw new IllegalArgumentException(
+                String.format("Input too large. Maximum factorization input is %d", maxFactorizationInput)
+            );
+        }
+        if (number < 2) {
+            return List.of();
+        }
+
+        int[] oddPrimes = Primes.sieveOddPrimes((int) number);
+        List<PrimeExponent> factors = new ArrayList<>(oddPrimes.length + 1);
+        factors.add(new PrimeExponent(2, Primes.legendreExponent(number, 2)));
+        for (int prime : oddPrimes) {
+            factors.add(new PrimeExponent(prime, Primes.legendreExponent(number, prime)));
+        }
+        return factors;
+    }
+
+    public long getMaxFactorizationInput() {
+        return maxFactorizationInput;
+    }
+
+    private static void validateLeadingDigitCount(int count) {
+        if (count < 1 || count > MAX_LEADING_DIGITS) {
+            throw new IllegalArgumentException(
+                String.format("Leading digit count must be between 1 and %d", MAX_LEADING_DIGITS)
+            );
+        }
+    }
+
+    private static long digitCount(BigDecimal log10) {
+        // n! is never a power of ten above 1!, so the floor is never off by a rounding error
+        return log10.setScale(0, RoundingMode.FLOOR).longValueExact() + 1;
+    }
+
+    /**
+     * Reads the leading digits from the fractional part f of log10(n!), as 10^f scaled to count digits.
+     */
+    private static String leadingDigits(BigDecimal log10, int count) {
+        BigDecimal fraction = log10.subtract(log10.setScale(0, RoundingMode.FLOOR));
+        BigDecimal mantissa = exp(fraction.multiply(LN_10, PRECISION));
+        String digits = mantissa.movePointRight(count - 1).setScale(0, RoundingMode.FLOOR).toPlainString();
+        return digits.substring(0, Math.min(count, digits.length()));
+    }
+
+    /**
+     * log10(n!) from ln Γ(n + 1) = (n + 1/2) ln n - n + ln(2π) / 2 + Σ B(2k) / (2k (2k - 1) n^(2k - 1)).
+     */
+    static BigDecimal log10Factorial(long number) {
+        BigDecimal n = BigDecimal.valueOf(number);
+        BigDecimal lnN = ln(number);
+        BigDecimal result = n.add(new BigDecimal("0.5")).multiply(lnN, PRECISION)
+                .subtract(n, PRECISION)
+                .add(HALF_LN_2PI, PRECISION);
+
+        BigDecimal inverse = BigDecimal.ONE.divide(n, PRECISION);
+        BigDecimal inverseSquared = inverse.multiply(inverse, PRECISION);
+        BigDecimal power = inverse;
+        for (BigDecimal coefficient : STIRLING_COEFFICIENTS) {
+            result = result.add(coefficient.multiply(power, PRECISION), PRECISION);
+            power = power.multiply(inverseSquared, PRECISION);
+        }
+        return result.divide(LN_10, PRECISION);
+    }
+
+    /**
+     * Natural logarithm of a positive long, as e ln 2 + ln(n / 2^e) with 2^e the power
+     * of two nearest to n, so that n / 2^e lies in [1/√2, √2].
+     */
+    private static BigDecimal ln(long number) {
+        int exponent = 63 - Long.numberOfLeadingZeros(number);
+        if (number > Math.sqrt(2) * (1L << exponent)) {
+            exponent++;
+        }
+        BigDecimal n = BigDecimal.valueOf(number);
+        BigDecimal power = new BigDecimal(BigInteger.ONE.shiftLeft(exponent));
+        // ln(n / 2^e) = 2 atanh((n - 2^e) / (n + 2^e))
+        BigDecimal z = n.subtract(power).divide(n.add(power), PRECISION);
+        return LN_2.multiply(BigDecimal.valueOf(exponent), PRECISION)
+                .add(atanh(z).multiply(BigDecimal.TWO), PRECISION);
+    }
+
+    /**
+     * atanh(z) = z + z^3 / 3 + z^5 / 5 + ..., for |z| well below one.
+     */
+    private static BigDecimal atanh(BigDecimal z) {
+        BigDecimal zSquared = z.multiply(z, PRECISION);
+        BigDecimal power = z;
+        BigDecimal sum = z;
+        for (int i = 3; ; i += 2) {
+            power = power.multiply(zSquared, PRECISION);
+            BigDecimal term = power.divide(BigDecimal.valueOf(i), PRECISION);
+            if (term.abs().compareTo(EPSILON) < 0) {
+                return sum;
+            }
+            sum = sum.add(term, PRECISION);
+        }
+    }
+
+    /**
+     * exp(x) for 0 <= x < ln 10, as exp(x / 2^k)^(2^k): the series of the reduced
+     * argument needs a fraction of the terms and squaring costs only a few digits.
+     */
+    private static BigDecimal exp(BigDecimal x) {
+        BigDecimal reduced = x.divide(BigDecimal.valueOf(1L << EXP_HALVINGS), PRECISION);
+        BigDecimal term = BigDecimal.ONE;
+        BigDecimal sum = BigDecimal.ONE;
+        for (int i = 1; term.compareTo(EPSILON) >= 0; i++) {
+            term = term.multiply(reduced, PRECISION).divide(BigDecimal.valueOf(i), PRECISION);
+            sum = sum.add(term, PRECISION);
+        }
+        for (int i = 0; i < EXP_HALVINGS; i++) {
+            sum = sum.multiply(sum, PRECISION);
+        }
+        return sum;
+    }
+
+    /**
+     * ln(2π) / 2 = (2 ln 2 + ln(π / 2)) / 2, with π = 16 atan(1/5) - 4 atan(1/239)
+     * and ln(π / 2) = 2 atanh((π - 2) / (π + 2)).
+     */
+    private static BigDecimal halfLnTwoPi() {
+        BigDecimal pi = atanInverse(5).multiply(BigDecimal.valueOf(16))
+                .subtract(atanInverse(239).multiply(BigDecimal.valueOf(4)), PRECISION);
+        BigDecimal two = BigDecimal.TWO;
+        BigDecimal lnHalfPi = atanh(pi.subtract(two).divide(pi.add(two), PRECISION)).multiply(two);
+        return LN_2.multiply(two).add(lnHalfPi, PRECISION).divide(two, PRECISION);
+    }
+
+    /**
+     * atan(1 / x) = 1/x - 1/(3 x^3) + 1/(5 x^5) - ...
+     */
+    private static BigDecimal atanInverse(int x) {
+        BigDecimal inverseSquared = ratio(1, (long) x * x);
+        BigDecimal power = ratio(1, x);
+        BigDecimal sum = power;
+        for (int i = 3; ; i += 2) {
+            power = power.multiply(inverseSquared, PRECISION).negate();
+            BigDecimal term = power.divide(BigDecimal.valueOf(i), PRECISION);
+            if (term.abs().compareTo(EPSILON) < 0) {
+                return sum;
+            }
+            sum = sum.add(term, PRECISION);
+        }
+    }
+
+    private static BigDecimal ratio(long numerator, long denominator) {
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), PRECISION);
+    }
+}
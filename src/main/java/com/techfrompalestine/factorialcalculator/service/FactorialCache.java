@@ -0,0 +1,246 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.math.ProductTree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Memoizing cache of factorial checkpoints.
+ * 
+ * A request for n! is answered from an exact checkpoint when one exists, or built
+ * from the nearest smaller checkpoint k! as k! * (k+1)(k+2)...n when k is close
+ * enough to n. Eviction is least-recently-used and bounded by the approximate
+ * number of bytes held, since entries range from a few bytes to megabytes.
+ * When the {@link FactorialCheckpointStore} is enabled, it is consulted on a miss
+ * and receives every newly computed value.
+ * 
+ * Extensions run on the factorial fork/join pool, like the parallel strategy, so
+ * a request thread only waits for them and their multiplications stay within the
+ * parallelism configured by app.resources.cpu.
+ * 
+ * This service is thread-safe; calculations run outside the cache lock.
+ */
+@Service
+public class FactorialCache {
+    
+    private static final Logger logger = LoggerFactory.getLogger(FactorialCache.class);
+    
+    // Approximate per-entry overhead of the map nodes and BigInteger header
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+    
+    private final ForkJoinPool pool;
+    private final MultiplicationKernel kernel;
+    private final FactorialCheckpointStore checkpointStore;
+    private final boolean enabled;
+    private final long maxBytes;
+    
+    // Both maps hold the same entries; guarded by this
+    private final TreeMap<Integer, BigInteger> checkpoints = new TreeMap<>();
+    private final LinkedHashMap<Integer, BigInteger> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder extensions = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public FactorialCache(ForkJoinPool factorialForkJoinPool,
+                          MultiplicationKernel kernel,
+                          FactorialCheckpointStore checkpointStore,
+                          @Value("${app.factorial.cache.enabled:true}") boolean enabled,
+                          @Value("${app.factorial.cache.max-bytes:33554432}") long maxBytes) {
+        this.pool = factorialForkJoinPool;
+        this.kernel = kernel;
+        this.checkpointStore = checkpointStore;
+        this.enabled = enabled;
+        this.maxBytes = Math.max(0, maxBytes);
+        
+        logger.info("FactorialCache initialized (enabled: {}, max bytes: {})", enabled, this.maxBytes);
+    }
+    
+    /**
+     * Returns n!, from the cache if possible.
+     * 
+     * @param number The number to calculate factorial for (already validated)
+     * @param calculation Full calculation used when no usable checkpoint exists
+     * @return The factorial result
+     */
+    public BigInteger getOrCompute(int number, IntFunction<BigInteger> calculation) {
+        if (!enabled) {
+            return calculation.apply(number);
+        }
+        
+        Map.Entry<Integer, BigInteger> checkpoint = floorCheckpoint(number);
+        if (checkpoint == null || checkpoint.getKey() != number) {
+            checkpoint = loadStoredCheckpoint(number, checkpoint);
+        }
+        BigInteger result;
+        
+        if (checkpoint != null && checkpoint.getKey() == number) {
+            hits.increment();
+            return checkpoint.getValue();
+        } else if (checkpoint != null && isWorthExtending(checkpoint.getKey(), number)) {
+            extensions.increment();
+            result = extend(checkpoint.getKey(), checkpoint.getValue(), number);
+        } else {
+            misses.increment();
+            result = calculation.apply(number);
+        }
+        
+        put(number, result);
+        checkpointStore.saveAsync(number, result);
+        return result;
+    }
+    
+    /**
+     * Computes n! as k! * (k+1)(k+2)...n on the factorial pool, or directly when
+     * the caller already runs in it.
+     */
+    private BigInteger extend(int checkpoint, BigInteger checkpointValue, int number) {
+        Supplier<BigInteger> extension = () -> kernel.multiply(checkpointValue,
+                ProductTree.product(kernel, checkpoint + 1, number));
+        if (ForkJoinTask.getPool() == pool) {
+            return extension.get();
+        }
+        return pool.invoke(ForkJoinTask.adapt((Callable<BigInteger>) extension::get));
+    }
+    
+    /**
+     * Loads the nearest stored checkpoint when it is closer to the request than the
+     * best in-memory one, and promotes it into memory.
+     */
+    private Map.Entry<Integer, BigInteger> loadStoredCheckpoint(int number, Map.Entry<Integer, BigInteger> inMemory) {
+        int stored = checkpointStore.floorCheckpoint(number);
+        int best = inMemory != null ? inMemory.getKey() : -1;
+        if (stored <= best || (stored != number && !isWorthExtending(stored, number))) {
+            return inMemory;
+        }
+        
+        BigInteger value = checkpointStore.load(stored);
+        if (value == null) {
+            return inMemory;
+        }
+        put(stored, value);
+        return Map.entry(stored, value);
+    }
+    
+    /**
+     * Stores n! as a checkpoint, evicting least-recently-used entries if needed.
+     * Values larger than half the budget are not cached.
+     * 
+     * @param number The input
+     * @param factorial Its factorial
+     */
+    public void put(int number, BigInteger factorial) {
+        long size = sizeOf(factorial);
+        if (!enabled || size > maxBytes / 2) {
+            return;
+        }
+        
+        synchronized (this) {
+            BigInteger previous = checkpoints.put(number, factorial);
+            accessOrder.put(number, factorial);
+            if (previous != null) {
+                currentBytes -= sizeOf(previous);
+            }
+            currentBytes += size;
+            evictIfNeeded();
+        }
+    }
+    
+    /**
+     * Finds the largest cached checkpoint not greater than the given number.
+     * 
+     * @param number The upper bound
+     * @return The checkpoint, or null if none exists
+     */
+    public synchronized Map.Entry<Integer, BigInteger> floorCheckpoint(int number) {
+        Map.Entry<Integer, BigInteger> entry = checkpoints.floorEntry(number);
+        if (entry != null) {
+            accessOrder.get(entry.getKey()); // Refresh recency
+        }
+        return entry;
+    }
+    
+    /**
+     * Clears all checkpoints. Counters are kept.
+     */
+    public synchronized void clear() {
+        checkpoints.clear();
+        accessOrder.clear();
+        currentBytes = 0;
+        logger.info("Cleared all factorial checkpoints");
+    }
+    
+    /**
+     * Extending k! to n! multiplies about (n - k) log n bits onto k!, which is
+     * cheaper than a full calculation while k is at least half of n.
+     */
+    private static boolean isWorthExtending(int checkpoint, int number) {
+        return number - checkpoint <= number / 2;
+    }
+    
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Integer, BigInteger>> eldest = accessOrder.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Integer, BigInteger> entry = eldest.next();
+            eldest.remove();
+            checkpoints.remove(entry.getKey());
+            currentBytes -= sizeOf(entry.getValue());
+            evictions.increment();
+        }
+    }
+    
+    private static long sizeOf(BigInteger value) {
+        return value.bitLength() / 8 + ENTRY_OVERHEAD_BYTES;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    /**
+     * Gets the number of requests answered by extending a smaller checkpoint.
+     */
+    public long getExtensionCount() {
+        return extensions.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+    
+    public synchronized int getEntryCount() {
+        return checkpoints.size();
+    }
+    
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+    
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
@@ -0,0 +1,344 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * Optional on-disk store of factorial checkpoints that survives restarts.
+ * 
+ * Checkpoints are appended to a single segment file as records of
+ * [magic, n, length, checksum, magnitude bytes]. An in-memory index maps n to the
+ * record offset and is rebuilt by scanning the segment at startup; records whose
+ * checksum does not match (for example a write torn by a crash) are skipped.
+ * Reads go through a memory mapping of the segment, so loading a checkpoint costs
+ * no read system calls and only the copy into the {@link BigInteger} itself.
+ * Writes are queued to a single background thread and dropped when the queue is
+ * full, so request threads never wait on disk.
+ */
+@Service
+public class FactorialCheckpointStore {
+    
+    private static final Logger logger = LoggerFactory.getLogger(FactorialCheckpointStore.class);
+    
+    // Record layout
+    private static final int MAGIC = 0x46434B50; // "FCKP"
+    private static final int HEADER_BYTES = 16;
+    private static final int WRITE_QUEUE_CAPACITY = 16;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    
+    private final boolean enabled;
+    private final Path path;
+    private final int minInput;
+    private final long maxBytes;
+    private final boolean virtualThreads;
+    
+    private final ConcurrentSkipListMap<Integer, Long> index = new ConcurrentSkipListMap<>();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder droppedWrites = new LongAdder();
+    private final LongAdder corruptRecords = new LongAdder();
+    
+    private FileChannel channel;
+    private ExecutorService writer;
+    private volatile long writePosition;
+    private volatile MappedByteBuffer mapping;
+    
+    public FactorialCheckpointStore(@Value("${app.factorial.store.enabled:false}") boolean enabled,
+                                    @Value("${app.factorial.store.path:data/factorial-checkpoints.seg}") String path,
+                                    @Value("${app.factorial.store.min-input:10000}") int minInput,
+                                    @Value("${app.factorial.store.max-bytes:1073741824}") long maxBytes,
+                                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.enabled = enabled;
+        this.virtualThreads = virtualThreads;
+        this.path = Path.of(path);
+        this.minInput = minInput;
+        // A single MappedByteBuffer addresses at most 2 GB
+        this.maxBytes = Math.min(maxBytes, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Opens the segment file and rebuilds the index. Called automatically after bean construction.
+     */
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                                       StandardOpenOption.READ, StandardOpenOption.WRITE);
+            writePosition = scanSegment();
+            // Disk writes block, so the writer runs on a virtual thread when those are enabled
+            ThreadFactory threadFactory = virtualThreads
+                    ? Thread.ofVirtual().name("checkpoint-writer").factory()
+                    : Thread.ofPlatform().name("checkpoint-writer").daemon(true).factory();
+            writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                            new ArrayBlockingQueue<>(WRITE_QUEUE_CAPACITY), threadFactory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open checkpoint store " + path, e);
+        }
+        
+        logger.info("FactorialCheckpointStore opened {} with {} checkpoints ({} bytes, {} corrupt records skipped)",
+                    path, index.size(), writePosition, corruptRecords.sum());
+    }
+    
+    /**
+     * Waits for queued writes, then flushes and closes the segment file.
+     */
+    @PreDestroy
+    public void close() {
+        if (!enabled || channel == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Checkpoint writes still pending at shutdown were abandoned");
+            }
+            channel.force(true);
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.error("Failed to close checkpoint store {}: {}", path, e.getMessage());
+        }
+    }
+    
+    /**
+     * Finds the largest stored checkpoint not greater than the given number.
+     * 
+     * @param number The upper bound
+     * @return The stored input, or -1 if none exists
+     */
+    public int floorCheckpoint(int number) {
+        if (!enabled) {
+            return -1;
+        }
+        Map.Entry<Integer, Long> entry = index.floorEntry(number);
+        return entry != null ? entry.getKey() : -1;
+    }
+    
+    /**
+     * Loads a stored checkpoint.
+     * 
+     * @param number The input whose factorial to load
+     * @return The stored factorial, or null if it is absent or fails its checksum
+     */
+    public BigInteger load(int number) {
+        Long offset = enabled ? index.get(number) : null;
+        if (offset == null) {
+            return null;
+        }
+        
+        ByteBuffer record = recordView(offset);
+        int length = record.getInt(8);
+        int checksum = record.getInt(12);
+        byte[] magnitude = new byte[length];
+        record.get(HEADER_BYTES, magnitude);
+        
+        if (checksum(number, magnitude) != checksum) {
+            corruptRecords.increment();
+            index.remove(number, offset);
+            logger.warn("Checkpoint for {}! at offset {} failed its checksum and was dropped", number, offset);
+            return null;
+        }
+        reads.increment();
+        return new BigInteger(1, magnitude);
+    }
+    
+    /**
+     * Queues a checkpoint to be appended to the segment. Never blocks; the write is
+     * dropped if the input is below the minimum, already stored, or the queue is full.
+     * 
+     * @param number The input
+     * @param factorial Its factorial
+     */
+    public void saveAsync(int number, BigInteger factorial) {
+        if (!enabled || number < minInput || index.containsKey(number)) {
+            return;
+        }
+        try {
+            writer.execute(() -> append(number, factorial));
+        } catch (RejectedExecutionException e) {
+            droppedWrites.increment();
+        }
+    }
+    
+    /**
+     * Waits until all writes queued so far have been appended. Intended for tests and shutdown.
+     */
+    public void awaitPendingWrites() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        while (!writer.isShutdown()) {
+            try {
+                writer.submit(() -> { }).get();
+                return;
+            } catch (RejectedExecutionException e) {
+                Thread.sleep(1); // Queue full; retry once the writer catches up
+            } catch (ExecutionException e) {
+                return; // Cannot happen for an empty task
+            }
+        }
+    }
+    
+    /**
+     * Appends one record. Runs on the writer thread only.
+     */
+    private void append(int number, BigInteger factorial) {
+        if (index.containsKey(number)) {
+            return;
+        }
+        byte[] magnitude = factorial.abs().toByteArray();
+        long offset = writePosition;
+        if (offset + HEADER_BYTES + magnitude.length > maxBytes) {
+            droppedWrites.increment();
+            return;
+        }
+        
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(number).putInt(magnitude.length).putInt(checksum(number, magnitude)).flip();
+        try {
+            long position = offset;
+            for (ByteBuffer buffer : new ByteBuffer[] {header, ByteBuffer.wrap(magnitude)}) {
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+            writePosition = position;
+            index.put(number, offset);
+            writes.increment();
+        } catch (IOException e) {
+            droppedWrites.increment();
+            logger.error("Failed to append checkpoint for {}!: {}", number, e.getMessage());
+        }
+    }
+    
+    /**
+     * Scans the segment from the start, indexing every record with a valid checksum.
+     * A header that cannot be parsed marks a torn tail, which is truncated away.
+     * 
+     * @return The offset after the last readable record
+     */
+    private long scanSegment() throws IOException {
+        long size = channel.size();
+        if (size > maxBytes) {
+            throw new IOException("Checkpoint segment exceeds " + maxBytes + " bytes");
+        }
+        MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        long offset = 0;
+        
+        while (offset + HEADER_BYTES <= size) {
+            int position = (int) offset;
+            int magic = segment.getInt(position);
+            int number = segment.getInt(position + 4);
+            int length = segment.getInt(position + 8);
+            if (magic != MAGIC || number < 0 || length <= 0 || offset + HEADER_BYTES + length > size) {
+                break;
+            }
+            
+            byte[] magnitude = new byte[length];
+            segment.get(position + HEADER_BYTES, magnitude);
+            if (checksum(number, magnitude) == segment.getInt(position + 12)) {
+                index.put(number, offset);
+            } else {
+                corruptRecords.increment();
+            }
+            offset += HEADER_BYTES + length;
+        }
+        
+        if (offset < size) {
+            logger.warn("Truncating {} bytes of torn data at the end of {}", size - offset, path);
+            channel.truncate(offset);
+        }
+        return offset;
+    }
+    
+    /**
+     * Returns a view of the record at the given offset, remapping the segment if it has grown.
+     */
+    private ByteBuffer recordView(long offset) {
+        MappedByteBuffer current = mapping;
+        if (current == null || offset + HEADER_BYTES > current.capacity()
+                || offset + HEADER_BYTES + current.getInt((int) offset + 8) > current.capacity()) {
+            current = remap();
+        }
+        return current.slice((int) offset, current.capacity() - (int) offset);
+    }
+    
+    private synchronized MappedByteBuffer remap() {
+        try {
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, writePosition);
+            return mapping;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map checkpoint store " + path, e);
+        }
+    }
+    
+    private static int checksum(int number, byte[] magnitude) {
+        CRC32C crc = new CRC32C();
+        crc.update(number);
+        crc.update(number >>> 8);
+        crc.update(number >>> 16);
+        crc.update(number >>> 24);
+        crc.update(magnitude);
+        return (int) crc.getValue();
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public int getCheckpointCount() {
+        return index.size();
+    }
+    
+    public long getSegmentBytes() {
+        return writePosition;
+    }
+    
+    public long getReadCount() {
+        return reads.sum();
+    }
+    
+    public long getWriteCount() {
+        return writes.sum();
+    }
+    
+    public long getDroppedWriteCount() {
+        return droppedWrites.sum();
+    }
+    
+    public long getCorruptRecordCount() {
+        return corruptRecords.sum();
+    }
+}
@@ -0,0 +1,126 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import com.techfrompalestine.factorialcalculator.latency.DelayProfile;
+import com.techfrompalestine.factorialcalculator.latency.HashedWheelTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service injecting the simulated response time of the configured strategy.
+ * 
+ * The delay is drawn from the delay profile configured for the strategy and
+ * completes on a shared hashed-wheel timer, so a delayed request holds no
+ * thread while it waits. Shared by the HTML and JSON endpoints so both see the
+ * same latency profile.
+ */
+@Service
+public class LatencyInjectionService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(LatencyInjectionService.class);
+    
+    private static final String PROFILE_PROPERTY_PREFIX = "app.latency.profile.";
+    private static final String DEFAULT_PROFILE_PROPERTY = PROFILE_PROPERTY_PREFIX + "default";
+    
+    // Fallback profiles matching the original 90-110% and 20-30% of 0.5 seconds
+    private static final String RECURSIVE_PROFILE = "uniform:0.45,0.55";
+    private static final String DEFAULT_PROFILE = "uniform:0.10,0.15";
+    
+    // Headroom over the drawn delay before the servlet container times the request out
+    private static final long TIMEOUT_MARGIN_MS = 30_000;
+    
+    private final HashedWheelTimer latencyTimer;
+    private final String strategyName;
+    private final DelayProfile profile;
+    
+    public LatencyInjectionService(HashedWheelTimer latencyTimer,
+                                   CalculationService calculationService,
+                                   Environment environment) {
+        this.latencyTimer = latencyTimer;
+        this.strategyName = calculationService.getStrategyType();
+        
+        String fallback = "recursive".equalsIgnoreCase(strategyName) ? RECURSIVE_PROFILE : DEFAULT_PROFILE;
+        String spec = environment.getProperty(PROFILE_PROPERTY_PREFIX + strategyName,
+                                              environment.getProperty(DEFAULT_PROFILE_PROPERTY, fallback));
+        this.profile = DelayProfile.parse(spec);
+        logger.info("Latency profile for strategy {}: {}", strategyName, profile);
+    }
+    
+    /**
+     * Draws the simulated response time for the next request.
+     * 
+     * @return The simulated response time in seconds
+     */
+    public double sampleDelay() {
+        double responseTime = profile.sampleSeconds(ThreadLocalRandom.current());
+        // Per-request line; calculations themselves are logged through CalculationAuditLog
+        if (logger.isDebugEnabled()) {
+            logger.debug("Strategy: {}, Time: {}s", strategyName, responseTime);
+        }
+        return responseTime;
+    }
+    
+    /**
+     * Completes a deferred result with the given value once the delay has elapsed.
+     * 
+     * @param delaySeconds The delay in seconds, usually from {@link #sampleDelay()}
+     * @param result The value to complete with
+     * @return The deferred result; already completed if the delay is zero
+     */
+    public <T> DeferredResult<T> respondAfter(double delaySeconds, T result) {
+        return respondAfter(delaySeconds, result, () -> { });
+    }
+    
+    /**
+     * Completes a deferred result with the given value once the delay has elapsed,
+     * running a callback just before, e.g. to measure the full response time.
+     * 
+     * @param delaySeconds The delay in seconds, usually from {@link #sampleDelay()}
+     * @param result The value to complete with
+     * @param onElapsed Runs when the delay has elapsed, before the result is set
+     * @return The deferred result; already completed if the delay is zero
+     */
+    public <T> DeferredResult<T> respondAfter(double delaySeconds, T result, Runnable onElapsed) {
+        long delayNanos = (long) (delaySeconds * 1e9);
+        DeferredResult<T> deferred = new DeferredResult<>(
+            TimeUnit.NANOSECONDS.toMillis(delayNanos) + TIMEOUT_MARGIN_MS);
+        Runnable complete = () -> {
+            onElapsed.run();
+            deferred.setResult(result);
+        };
+        if (delayNanos <= 0) {
+            complete.run();
+        } else {
+            latencyTimer.schedule(complete, delayNanos, TimeUnit.NANOSECONDS);
+        }
+        return deferred;
+    }
+    
+    /**
+     * Completes a deferred result with the given value without delay.
+     * 
+     * @param result The value to complete with
+     * @return The completed deferred result
+     */
+    public <T> DeferredResult<T> respondNow(T result) {
+        return respondAfter(0, result);
+    }
+    
+    /**
+     * @return The delay profile of the configured strategy
+     */
+    public DelayProfile getProfile() {
+        return profile;
+    }
+    
+    /**
+     * @return The number of responses currently waiting for their delay
+     */
+    public int getDelayedCount() {
+        return latencyTimer.getPendingCount();
+    }
+}
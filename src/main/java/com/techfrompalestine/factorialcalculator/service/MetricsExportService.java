@@ -0,0 +1,290 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.stereotype.Service;
+import com.techfrompalestine.factorialcalculator.metrics.OpenMetricsWriter;
+import com.techfrompalestine.factorialcalculator.metrics.RollingWindowStats;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Service publishing performance statistics in the OpenMetrics text format.
+ * 
+ * Each scrape borrows an encoder from a small pool and returns it afterwards,
+ * so its output buffer is reused across scrapes. Reading the statistics still
+ * allocates a few small objects per scrape, such as the percentile array and
+ * the window summaries, but never takes a lock that request threads could wait
+ * on: they are read from the same lock-free counters the request path writes.
+ */
+@Service
+public class MetricsExportService {
+    
+    // Configuration constants
+    private static final int WRITER_POOL_SIZE = 4;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+    private static final int[] WINDOW_SECONDS = {RollingWindowStats.ONE_MINUTE, RollingWindowStats.FIVE_MINUTES,
+                                                 RollingWindowStats.FIFTEEN_MINUTES};
+    private static final String[] WINDOW_LABELS = {"1m", "5m", "15m"};
+    
+    private final ResponseTimeService responseTimeService;
+    private final RequestMetricsService requestMetricsService;
+    private final FactorialCache factorialCache;
+    private final FactorialCheckpointStore checkpointStore;
+    private final LatencyInjectionService latencyInjectionService;
+    private final ForkJoinPool factorialForkJoinPool;
+    private final TokenValidationService tokenValidationService;
+    private final CalculationAuditLog auditLog;
+    private final StartupMilestoneService startupMilestoneService;
+    private final ModularFactorialService modularFactorialService;
+    
+    private final BlockingQueue<OpenMetricsWriter> writers = new ArrayBlockingQueue<>(WRITER_POOL_SIZE);
+    private final RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    
+    public MetricsExportService(ResponseTimeService responseTimeService,
+                                RequestMetricsService requestMetricsService,
+                                FactorialCache factorialCache,
+                                FactorialCheckpointStore checkpointStore,
+                                LatencyInjectionService latencyInjectionService,
+                                ForkJoinPool factorialForkJoinPool,
+                                TokenValidationService tokenValidationService,
+                                CalculationAuditLog auditLog,
+                                StartupMilestoneService startupMilestoneService,
+                                ModularFactorialService modularFactorialService) {
+        this.responseTimeService = responseTimeService;
+        this.requestMetricsService = requestMetricsService;
+        this.factorialCache = factorialCache;
+        this.checkpointStore = checkpointStore;
+        this.latencyInjectionService = latencyInjectionService;
+        this.factorialForkJoinPool = factorialForkJoinPool;
+        this.tokenValidationService = tokenValidationService;
+        this.auditLog = auditLog;
+        this.startupMilestoneService = startupMilestoneService;
+        this.modularFactorialService = modularFactorialService;
+    }
+    
+    /**
+     * Encodes all metrics and writes them to the given stream.
+     * 
+     * @param out The destination, usually the response body
+     * @throws IOException if writing fails
+     */
+    public void scrape(OutputStream out) throws IOException {
+        OpenMetricsWriter writer = writers.poll();
+        if (writer == null) {
+            writer = new OpenMetricsWriter();
+        }
+        try {
+            writer.reset();
+            encode(writer);
+            writer.writeTo(out);
+        } finally {
+            writers.offer(writer);
+        }
+    }
+    
+    /**
+     * Encodes all metric families into the writer.
+     * 
+     * @param writer The encoder to write into
+     */
+    void encode(OpenMetricsWriter writer) {
+        writeResponseTimes(writer);
+        writeRequests(writer);
+        writeCache(writer);
+        writeModular(writer);
+        writeTokens(writer);
+        writeAuditLog(writer);
+        writeExecutors(writer);
+        writeStartup(writer);
+        writeJvm(writer);
+        writer.end();
+    }
+    
+    private void writeResponseTimes(OpenMetricsWriter writer) {
+        long[] nanos = new long[PERCENTILES.length];
+        long count = responseTimeService.getPercentileResponseTimes(PERCENTILES, nanos);
+        writer.family("factorial_response_time_seconds", "summary", 
+                      "Response time percentiles since startup");
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            writer.sample("factorial_response_time_seconds", "quantile", QUANTILE_LABELS[i], 
+                          nanos[i] / NANOS_PER_SECOND);
+        }
+        writer.sample("factorial_response_time_seconds_count", count);
+        writer.sample("factorial_response_time_seconds_sum", responseTimeService.getTotalResponseTime());
+        
+        writer.family("factorial_response_time_recent_average_seconds", "gauge",
+                      "Average response time of the most recent samples");
+        writer.sample("factorial_response_time_recent_average_seconds", responseTimeService.getAverageResponseTime());
+        
+        RollingWindowStats.Window[] windows = new RollingWindowStats.Window[WINDOW_SECONDS.length];
+        for (int i = 0; i < WINDOW_SECONDS.length; i++) {
+            windows[i] = responseTimeService.getWindowStats(WINDOW_SECONDS[i]);
+        }
+        writer.family("factorial_window_requests", "gauge", "Requests in the trailing time window");
+        for (int i = 0; i < windows.length; i++) {
+            writer.sample("factorial_window_requests", "window", WINDOW_LABELS[i], windows[i].count());
+        }
+        writer.family("factorial_window_request_rate", "gauge", "Requests per second in the trailing time window");
+        for (int i = 0; i < windows.length; i++) {
+            writer.sample("factorial_window_request_rate", "window", WINDOW_LABELS[i], windows[i].ratePerSecond());
+        }
+        writer.family("factorial_window_response_time_max_seconds", "gauge", 
+                      "Largest response time in the trailing time window");
+        for (int i = 0; i < windows.length; i++) {
+            writer.sample("factorial_window_response_time_max_seconds", "window", WINDOW_LABELS[i], 
+                          windows[i].maxNanos() / NANOS_PER_SECOND);
+        }
+        
+        RollingWindowStats.Ewma ewma = responseTimeService.getMovingAverages();
+        writer.family("factorial_ewma_request_rate", "gauge", "Exponentially weighted requests per second");
+        writer.sample("factorial_ewma_request_rate", "window", WINDOW_LABELS[0], ewma.getOneMinuteRate());
+        writer.sample("factorial_ewma_request_rate", "window", WINDOW_LABELS[1], ewma.getFiveMinuteRate());
+        writer.sample("factorial_ewma_request_rate", "window", WINDOW_LABELS[2], ewma.getFifteenMinuteRate());
+        writer.family("factorial_ewma_response_time_seconds", "gauge", "Exponentially weighted mean response time");
+        writer.sample("factorial_ewma_response_time_seconds", "window", WINDOW_LABELS[0], 
+                      ewma.getOneMinuteLatencyNanos() / NANOS_PER_SECOND);
+        writer.sample("factorial_ewma_response_time_seconds", "window", WINDOW_LABELS[1], 
+                      ewma.getFiveMinuteLatencyNanos() / NANOS_PER_SECOND);
+        writer.sample("factorial_ewma_response_time_seconds", "window", WINDOW_LABELS[2], 
+                      ewma.getFifteenMinuteLatencyNanos() / NANOS_PER_SECOND);
+    }
+    
+    private void writeRequests(OpenMetricsWriter writer) {
+        writer.family("factorial_requests", "counter", "Requests by strategy, input size and outcome");
+        requestMetricsService.forEachCell((strategy, size, outcome, count, latencyNanosSum) -> 
+            writer.sample("factorial_requests_total", "strategy", strategy, "size", size.getLabel(),
+                          "outcome", outcome.getLabel(), count));
+        writer.family("factorial_request_response_time_seconds", "counter", 
+                      "Summed response time by strategy, input size and outcome");
+        requestMetricsService.forEachCell((strategy, size, outcome, count, latencyNanosSum) -> 
+            writer.sample("factorial_request_response_time_seconds_total", "strategy", strategy, 
+                          "size", size.getLabel(), "outcome", outcome.getLabel(), 
+                          latencyNanosSum / NANOS_PER_SECOND));
+    }
+    
+    private void writeCache(OpenMetricsWriter writer) {
+        writer.family("factorial_cache_lookups", "counter", "Factorial cache lookups by result");
+        writer.sample("factorial_cache_lookups_total", "result", "hit", factorialCache.getHitCount());
+        writer.sample("factorial_cache_lookups_total", "result", "extension", factorialCache.getExtensionCount());
+        writer.sample("factorial_cache_lookups_total", "result", "miss", factorialCache.getMissCount());
+        writer.family("factorial_cache_evictions", "counter", "Checkpoints evicted from the factorial cache");
+        writer.sample("factorial_cache_evictions_total", factorialCache.getEvictionCount());
+        writer.family("factorial_cache_entries", "gauge", "Checkpoints held by the factorial cache");
+        writer.sample("factorial_cache_entries", factorialCache.getEntryCount());
+        writer.family("factorial_cache_bytes", "gauge", "Approximate heap bytes held by the factorial cache");
+        writer.sample("factorial_cache_bytes", factorialCache.getCurrentBytes());
+        writer.family("factorial_cache_max_bytes", "gauge", "Byte budget of the factorial cache");
+        writer.sample("factorial_cache_max_bytes", factorialCache.getMaxBytes());
+        
+        if (checkpointStore.isEnabled()) {
+            writer.family("factorial_store_checkpoints", "gauge", "Checkpoints in the disk store");
+            writer.sample("factorial_store_checkpoints", checkpointStore.getCheckpointCount());
+            writer.family("factorial_store_bytes", "gauge", "Size of the disk store segment");
+            writer.sample("factorial_store_bytes", checkpointStore.getSegmentBytes());
+            writer.family("factorial_store_operations", "counter", "Disk store operations by type");
+            writer.sample("factorial_store_operations_total", "operation", "read", checkpointStore.getReadCount());
+            writer.sample("factorial_store_operations_total", "operation", "write", checkpointStore.getWriteCount());
+            writer.sample("factorial_store_operations_total", "operation", "dropped_write", 
+                          checkpointStore.getDroppedWriteCount());
+        }
+    }
+    
+    private void writeModular(OpenMetricsWriter writer) {
+        writer.family("factorial_modular_queries", "counter", "Modular factorial queries by how they were answered");
+        writer.sample("factorial_modular_queries_total", "path", "zero", modularFactorialService.getZeroShortcutCount());
+        writer.sample("factorial_modular_queries_total", "path", "wilson", 
+                      modularFactorialService.getWilsonReflectionCount());
+        writer.sample("factorial_modular_queries_total", "path", "product", modularFactorialService.getProductCount());
+        writer.sample("factorial_modular_queries_total", "path", "rejected", modularFactorialService.getRejectionCount());
+        writer.family("factorial_modular_checkpoint_restarts", "counter", 
+                      "Modular products started from a checkpoint");
+        writer.sample("factorial_modular_checkpoint_restarts_total", 
+                      modularFactorialService.getCheckpointRestartCount());
+        writer.family("factorial_modular_multiplications", "counter", "Montgomery multiplications of modular products");
+        writer.sample("factorial_modular_multiplications_total", modularFactorialService.getMultiplicationCount());
+        writer.family("factorial_modular_checkpoints", "gauge", "Checkpoints held by the modular factorial tables");
+        writer.sample("factorial_modular_checkpoints", modularFactorialService.getCheckpointCount());
+        writer.family("factorial_modular_table_evictions", "counter", 
+                      "Checkpoint tables of unconfigured moduli evicted for newer ones");
+        writer.sample("factorial_modular_table_evictions_total", modularFactorialService.getTableEvictionCount());
+    }
+    
+    private void writeTokens(OpenMetricsWriter writer) {
+        writer.family("factorial_token_validations", "counter", "Header token validations by verdict cache result");
+        writer.sample("factorial_token_validations_total", "result", "hit", tokenValidationService.getCacheHitCount());
+        writer.sample("factorial_token_validations_total", "result", "miss", tokenValidationService.getCacheMissCount());
+        writer.family("factorial_token_reloads", "counter", "Token file reloads by result");
+        writer.sample("factorial_token_reloads_total", "result", "success", tokenValidationService.getReloadCount());
+        writer.sample("factorial_token_reloads_total", "result", "failure", 
+                      tokenValidationService.getFailedReloadCount());
+        writer.family("factorial_tokens", "gauge", "Accepted connection tokens");
+        writer.sample("factorial_tokens", tokenValidationService.getTokenCount());
+    }
+    
+    private void writeAuditLog(OpenMetricsWriter writer) {
+        writer.family("factorial_audit_events", "counter", "Calculation audit events by fate");
+        writer.sample("factorial_audit_events_total", "result", "written", auditLog.getWrittenCount());
+        writer.sample("factorial_audit_events_total", "result", "dropped", auditLog.getDroppedCount());
+        writer.sample("factorial_audit_events_total", "result", "sampled_out", auditLog.getSampledOutCount());
+        writer.sample("factorial_audit_events_total", "result", "rate_limited", auditLog.getRateLimitedCount());
+    }
+    
+    private void writeExecutors(OpenMetricsWriter writer) {
+        writer.family("factorial_forkjoin_parallelism", "gauge", "Target parallelism of the factorial pool");
+        writer.sample("factorial_forkjoin_parallelism", factorialForkJoinPool.getParallelism());
+        writer.family("factorial_forkjoin_active_threads", "gauge", "Factorial pool threads running or stealing");
+        writer.sample("factorial_forkjoin_active_threads", factorialForkJoinPool.getActiveThreadCount());
+        writer.family("factorial_forkjoin_queued_tasks", "gauge", "Tasks queued in the factorial pool");
+        writer.sample("factorial_forkjoin_queued_tasks", factorialForkJoinPool.getQueuedTaskCount());
+        writer.family("factorial_forkjoin_steals", "counter", "Tasks stolen between factorial pool threads");
+        writer.sample("factorial_forkjoin_steals_total", factorialForkJoinPool.getStealCount());
+        writer.family("factorial_delayed_responses", "gauge", "Responses waiting for their simulated delay");
+        writer.sample("factorial_delayed_responses", latencyInjectionService.getDelayedCount());
+    }
+    
+    private void writeStartup(OpenMetricsWriter writer) {
+        writer.family("factorial_startup_milestone_seconds", "gauge", "Time from JVM start to each startup milestone");
+        for (StartupMilestoneService.Milestone milestone : StartupMilestoneService.Milestone.values()) {
+            long millis = startupMilestoneService.getMillisSinceJvmStart(milestone);
+            if (millis >= 0) {
+                writer.sample("factorial_startup_milestone_seconds", "milestone", milestone.getLabel(), millis / 1000.0);
+            }
+        }
+    }
+    
+    private void writeJvm(OpenMetricsWriter writer) {
+        Runtime jvm = Runtime.getRuntime();
+        writer.family("jvm_uptime_seconds", "gauge", "Time since the JVM started");
+        writer.sample("jvm_uptime_seconds", runtime.getUptime() / 1000.0);
+        writer.family("jvm_available_processors", "gauge", "Processors available to the JVM");
+        writer.sample("jvm_available_processors", jvm.availableProcessors());
+        writer.family("jvm_memory_heap_used_bytes", "gauge", "Heap in use");
+        writer.sample("jvm_memory_heap_used_bytes", jvm.totalMemory() - jvm.freeMemory());
+        writer.family("jvm_memory_heap_committed_bytes", "gauge", "Heap committed by the JVM");
+        writer.sample("jvm_memory_heap_committed_bytes", jvm.totalMemory());
+        writer.family("jvm_memory_heap_max_bytes", "gauge", "Maximum heap size");
+        writer.sample("jvm_memory_heap_max_bytes", jvm.maxMemory());
+        writer.family("jvm_threads_live", "gauge", "Live platform threads");
+        writer.sample("jvm_threads_live", threads.getThreadCount());
+        writer.family("jvm_gc_collections", "counter", "Garbage collections by collector");
+        for (GarbageCollectorMXBean collector : collectors) {
+            writer.sample("jvm_gc_collections_total", "gc", collector.getName(), collector.getCollectionCount());
+        }
+        writer.family("jvm_gc_collection_seconds", "counter", "Time spent in garbage collection by collector");
+        for (GarbageCollectorMXBean collector : collectors) {
+            writer.sample("jvm_gc_collection_seconds_total", "gc", collector.getName(), 
+                          collector.getCollectionTime() / 1000.0);
+        }
+    }
+}
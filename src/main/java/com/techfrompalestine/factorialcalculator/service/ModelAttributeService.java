@@ -3,6 +3,10 @@ package com.techfrompalestine.factorialcalculator.service;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
+import java.util.ArrayList;
+import java.util.List;
+import com.techfrompalestine.factorialcalculator.metrics.LatencyHistogram;
+import com.techfrompalestine.factorialcalculator.metrics.RollingWindowStats;
 
 /**
  * Service responsible for adding common model attributes to views.
@@ -30,6 +34,11 @@ public class ModelAttributeService {
     @Value("${app.factorial.strategy:iterative}")
     private String factorialStrategy;
     
+    private final CalculationService calculationService;
+    private final FactorialCache factorialCache;
+    private final FactorialCheckpointStore checkpointStore;
+    private final RequestMetricsService requestMetricsService;
+    
     // Attribute name constants for consistency
     private static final String APP_NAME_ATTR = "appName";
     private static final String APP_ENV_ATTR = "appEnv";
@@ -39,6 +48,39 @@ public class ModelAttributeService {
     private static final String APP_FACTORIAL_STRATEGY_ATTR = "appFactorialStrategy";
     private static final String AVERAGE_RESPONSE_TIME_ATTR = "averageResponseTime";
     private static final String SAMPLE_COUNT_ATTR = "sampleCount";
+    private static final String P50_RESPONSE_TIME_ATTR = "p50ResponseTime";
+    private static final String P90_RESPONSE_TIME_ATTR = "p90ResponseTime";
+    private static final String P99_RESPONSE_TIME_ATTR = "p99ResponseTime";
+    private static final String P999_RESPONSE_TIME_ATTR = "p999ResponseTime";
+    private static final String HISTOGRAM_COUNT_ATTR = "histogramCount";
+    private static final String WINDOW_STATS_ATTR = "windowStats";
+    private static final String EWMA_RATES_ATTR = "ewmaRates";
+    private static final String EWMA_LATENCIES_ATTR = "ewmaLatencies";
+    private static final String REQUEST_BREAKDOWN_ATTR = "requestBreakdown";
+    private static final String MAX_FACTORIAL_INPUT_ATTR = "maxFactorialInput";
+    private static final String CACHE_HITS_ATTR = "cacheHits";
+    private static final String CACHE_EXTENSIONS_ATTR = "cacheExtensions";
+    private static final String CACHE_MISSES_ATTR = "cacheMisses";
+    private static final String CACHE_EVICTIONS_ATTR = "cacheEvictions";
+    private static final String CACHE_ENTRIES_ATTR = "cacheEntries";
+    private static final String CACHE_KILOBYTES_ATTR = "cacheKilobytes";
+    private static final String CACHE_MAX_KILOBYTES_ATTR = "cacheMaxKilobytes";
+    private static final String STORE_ENABLED_ATTR = "storeEnabled";
+    private static final String STORE_CHECKPOINTS_ATTR = "storeCheckpoints";
+    private static final String STORE_KILOBYTES_ATTR = "storeKilobytes";
+    private static final String STORE_READS_ATTR = "storeReads";
+    private static final String STORE_WRITES_ATTR = "storeWrites";
+    private static final String STORE_DROPPED_WRITES_ATTR = "storeDroppedWrites";
+    
+    public ModelAttributeService(CalculationService calculationService,
+                                 FactorialCache factorialCache,
+                                 FactorialCheckpointStore checkpointStore,
+                                 RequestMetricsService requestMetricsService) {
+        this.calculationService = calculationService;
+        this.factorialCache = factorialCache;
+        this.checkpointStore = checkpointStore;
+        this.requestMetricsService = requestMetricsService;
+    }
     
     /**
      * Adds common application attributes to the model.
@@ -50,11 +92,12 @@ public class ModelAttributeService {
         model.addAttribute(APP_AUTHOR_ATTR, applicationAuthor);
         model.addAttribute(APP_VERSION_ATTR, applicationVersion);
         model.addAttribute(APP_FACTORIAL_STRATEGY_ATTR, factorialStrategy);
+        model.addAttribute(MAX_FACTORIAL_INPUT_ATTR, calculationService.getMaxSafeFactorialInput());
     }
     
     /**
      * Adds specific attributes needed for the properties page.
-     * Includes CPU resources, factorial strategy, and response time statistics.
+     * Includes CPU resources, factorial strategy, response time percentiles and cache statistics.
      */
     public void addPropertiesPageAttributes(Model model, ResponseTimeService responseTimeService) {
         model.addAttribute(APP_RESOURCES_CPU_ATTR, cpuResources);
@@ -62,6 +105,79 @@ public class ModelAttributeService {
         model.addAttribute(AVERAGE_RESPONSE_TIME_ATTR, 
                           String.format("%.3f", responseTimeService.getAverageResponseTime()));
         model.addAttribute(SAMPLE_COUNT_ATTR, responseTimeService.getSampleCount());
+        addPercentileAttributes(model, responseTimeService.getHistogramSnapshot());
+        addWindowAttributes(model, responseTimeService);
+        addRequestBreakdownAttributes(model);
+        addCacheAttributes(model);
+    }
+    
+    /**
+     * Adds request counts by strategy, input size and outcome.
+     */
+    private void addRequestBreakdownAttributes(Model model) {
+        List<String> rows = new ArrayList<>();
+        for (RequestMetricsService.Row row : requestMetricsService.snapshot()) {
+            rows.add(String.format("%s, n %s, %s: %d requests, mean %.3fs", 
+                                   row.strategy(), row.size().getLabel(), row.outcome().getLabel(),
+                                   row.count(), row.latencyNanosSum() / 1e9 / row.count()));
+        }
+        model.addAttribute(REQUEST_BREAKDOWN_ATTR, rows);
+    }
+    
+    /**
+     * Adds 1, 5 and 15 minute window summaries and moving averages.
+     */
+    private void addWindowAttributes(Model model, ResponseTimeService responseTimeService) {
+        List<String> windows = new ArrayList<>(3);
+        for (int seconds : new int[] {RollingWindowStats.ONE_MINUTE, RollingWindowStats.FIVE_MINUTES,
+                                      RollingWindowStats.FIFTEEN_MINUTES}) {
+            RollingWindowStats.Window window = responseTimeService.getWindowStats(seconds);
+            windows.add(String.format("Last %d min: %d requests, %.2f req/s, mean %.3fs, max %.3fs",
+                                      seconds / 60, window.count(), window.ratePerSecond(),
+                                      window.meanNanos() / 1e9, window.maxNanos() / 1e9));
+        }
+        model.addAttribute(WINDOW_STATS_ATTR, windows);
+        
+        RollingWindowStats.Ewma ewma = responseTimeService.getMovingAverages();
+        model.addAttribute(EWMA_RATES_ATTR, String.format("%.2f / %.2f / %.2f",
+                           ewma.getOneMinuteRate(), ewma.getFiveMinuteRate(), ewma.getFifteenMinuteRate()));
+        model.addAttribute(EWMA_LATENCIES_ATTR, String.format("%.3f / %.3f / %.3f",
+                           ewma.getOneMinuteLatencyNanos() / 1e9, ewma.getFiveMinuteLatencyNanos() / 1e9,
+                           ewma.getFifteenMinuteLatencyNanos() / 1e9));
+    }
+    
+    /**
+     * Adds response time percentiles, all read from one histogram snapshot.
+     */
+    private void addPercentileAttributes(Model model, LatencyHistogram.Snapshot snapshot) {
+        model.addAttribute(P50_RESPONSE_TIME_ATTR, formatNanos(snapshot.valueAtPercentile(50)));
+        model.addAttribute(P90_RESPONSE_TIME_ATTR, formatNanos(snapshot.valueAtPercentile(90)));
+        model.addAttribute(P99_RESPONSE_TIME_ATTR, formatNanos(snapshot.valueAtPercentile(99)));
+        model.addAttribute(P999_RESPONSE_TIME_ATTR, formatNanos(snapshot.valueAtPercentile(99.9)));
+        model.addAttribute(HISTOGRAM_COUNT_ATTR, snapshot.getTotalCount());
+    }
+    
+    private static String formatNanos(long nanos) {
+        return String.format("%.3f", nanos / 1e9);
+    }
+    
+    /**
+     * Adds factorial cache counters used to size the cache.
+     */
+    private void addCacheAttributes(Model model) {
+        model.addAttribute(CACHE_HITS_ATTR, factorialCache.getHitCount());
+        model.addAttribute(CACHE_EXTENSIONS_ATTR, factorialCache.getExtensionCount());
+        model.addAttribute(CACHE_MISSES_ATTR, factorialCache.getMissCount());
+        model.addAttribute(CACHE_EVICTIONS_ATTR, factorialCache.getEvictionCount());
+        model.addAttribute(CACHE_ENTRIES_ATTR, factorialCache.getEntryCount());
+        model.addAttribute(CACHE_KILOBYTES_ATTR, factorialCache.getCurrentBytes() / 1024);
+        model.addAttribute(CACHE_MAX_KILOBYTES_ATTR, factorialCache.getMaxBytes() / 1024);
+        model.addAttribute(STORE_ENABLED_ATTR, checkpointStore.isEnabled());
+        model.addAttribute(STORE_CHECKPOINTS_ATTR, checkpointStore.getCheckpointCount());
+        model.addAttribute(STORE_KILOBYTES_ATTR, checkpointStore.getSegmentBytes() / 1024);
+        model.addAttribute(STORE_READS_ATTR, checkpointStore.getReadCount());
+        model.addAttribute(STORE_WRITES_ATTR, checkpointStore.getWriteCount());
+        model.addAttribute(STORE_DROPPED_WRITES_ATTR, checkpointStore.getDroppedWriteCount());
     }
     
     // Getters for testing purposes
@@ -0,0 +1,440 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.math.MontgomeryModulus;
+import com.techfrompalestine.factorialcalculator.math.Primes;
+import com.techfrompalestine.factorialcalculator.math.ProductTree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Computes n! mod m for 64-bit n and m without calculating n!.
+ *
+ * Shortcuts answer most queries without multiplying: n! is 0 mod m for n >= m,
+ * and Wilson's theorem (p - 1)! = -1 mod p turns n! mod a prime p for
+ * n > p / 2 into the smaller (p - 1 - n)!. An even modulus 2^k q is split by
+ * the Chinese remainder theorem, since 2^k divides n! for every n >= 64.
+ *
+ * Otherwise the product runs in Montgomery form on the factorial fork/join
+ * pool, in chunks aligned to the checkpoint stride. Each modulus keeps a sparse
+ * table of (j * stride)! mod m filled as chunks complete, so a later query
+ * restarts from the nearest checkpoint below n instead of from 1. The primes in
+ * app.modular.precompute-primes own their tables for the lifetime of the service
+ * and can have them filled in the background at startup; other moduli share
+ * app.modular.max-tables tables, evicting the least recently used.
+ *
+ * Each product already spreads over the whole pool, so at most
+ * app.modular.max-concurrent of them run at once; further queries that need a
+ * product are rejected instead of queueing behind them.
+ */
+@Service
+public class ModularFactorialService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModularFactorialService.class);
+
+    // Below this input n! is expanded exactly; from it on v2(n!) >= 63 exceeds any 64-bit power of two
+    private static final int SMALL_INPUT = 64;
+
+    // Checkpoint table limits
+    private static final int MIN_STRIDE = 1 << 10;
+    private static final int MAX_CHECKPOINTS_PER_TABLE = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int stride;
+    private final long maxMultiplications;
+    private final int maxConcurrent;
+    private final int maxTables;
+    private final List<Long> precomputePrimes;
+    private final long precomputeLimit;
+    private final Semaphore permits;
+
+    // Tables of the configured primes, never evicted
+    private final Map<Long, CheckpointTable> reservedTables;
+    // Tables of other moduli in access order; guarded by itself
+    private final LinkedHashMap<Long, CheckpointTable> onDemandTables = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder zeroShortcuts = new LongAdder();
+    private final LongAdder wilsonReflections = new LongAdder();
+    private final LongAdder products = new LongAdder();
+    private final LongAdder checkpointRestarts = new LongAdder();
+    private final LongAdder multiplications = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder tableEvictions = new LongAdder();
+
+    public ModularFactorialService(ForkJoinPool factorialForkJoinPool,
+                                   @Value("${app.modular.checkpoint-stride:4194304}") int stride,
+                                   @Value("${app.modular.max-multiplications:4000000000}") long maxMultiplications,
+                                   @Value("${app.modular.max-concurrent:2}") int maxConcurrent,
+                                   @Value("${app.modular.max-tables:16}") int maxTables,
+                                   @Value("${app.modular.precompute-primes:1000000007,998244353,2305843009213693951}")
+                                   List<Long> precomputePrimes,
+                                   @Value("${app.modular.precompute-limit:0}") long precomputeLimit) {
+        this.pool = factorialForkJoinPool;
+        this.stride = Math.max(MIN_STRIDE, stride);
+        this.maxMultiplications = maxMultiplications;
+        this.maxConcurrent = Math.max(0, maxConcurrent);
+        this.maxTables = Math.max(0, maxTables);
+        this.precomputePrimes = List.copyOf(precomputePrimes);
+        this.precomputeLimit = precomputeLimit;
+        this.permits = new Semaphore(this.maxConcurrent);
+
+        Map<Long, CheckpointTable> reserved = new LinkedHashMap<>();
+        for (long prime : this.precomputePrimes) {
+            if (!Primes.isPrime(prime) || prime == 2) {
+                throw new IllegalArgumentException(String.format("%d is not an odd prime", prime));
+            }
+            reserved.put(prime, new CheckpointTable());
+        }
+        this.reservedTables = Map.copyOf(reserved);
+    }
+
+    /**
+     * Starts filling the checkpoint tables of the configured primes in the background.
+     * Called automatically after bean construction.
+     */
+    @PostConstruct
+    public void initialize() {
+        logger.info("Modular factorial initialized with checkpoint stride: {}, max multiplications: {}, "
+                    + "max concurrent: {}, reserved tables: {}", stride, maxMultiplications, maxConcurrent,
+                    precomputePrimes);
+        if (precomputeLimit <= 0 || precomputePrimes.isEmpty()) {
+            return;
+        }
+        // Runs on a pool worker, so the chunks fork into the pool instead of blocking a caller
+        pool.execute(() -> {
+            try {
+                for (long prime : precomputePrimes) {
+                    long number = Math.min(precomputeLimit, prime / 2);
+                    product(number, new MontgomeryModulus(prime), Long.MAX_VALUE);
+                    logger.info("Precomputed modular factorial checkpoints of {} up to {}", prime, number);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to precompute modular factorial checkpoints: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Computes n! mod m.
+     *
+     * @param number The factorial input, not negative
+     * @param modulus The modulus, positive
+     * @return number! mod modulus
+     * @throws IllegalArgumentException if an input is out of range or the product
+     *         would take more than app.modular.max-multiplications multiplications
+     * @throws RejectedExecutionException if a product is needed while
+     *         app.modular.max-concurrent products are already running
+     */
+    public long factorialMod(long number, long modulus) {
+        if (number < 0) {
+            throw new IllegalArgumentException("Factorial is not defined for negative numbers");
+        }
+        if (modulus < 1) {
+            throw new IllegalArgumentException("Modulus must be positive");
+        }
+
+        if (number >= modulus) {
+            // modulus is one of the factors
+            zeroShortcuts.increment();
+            return 0;
+        }
+        if (number < SMALL_INPUT) {
+            return ProductTree.product(2, (int) number).mod(BigInteger.valueOf(modulus)).longValue();
+        }
+
+        int twos = Long.numberOfTrailingZeros(modulus);
+        if (twos == 0) {
+            return oddFactorialMod(number, new MontgomeryModulus(modulus));
+        }
+        long odd = modulus >>> twos;
+        if (odd == 1) {
+            zeroShortcuts.increment();
+            return 0;
+        }
+        // n! = 0 mod 2^k and n! = r mod q, so n! = 2^k (r 2^-k mod q) mod 2^k q
+        MontgomeryModulus arithmetic = new MontgomeryModulus(odd);
+        long residue = number >= odd ? 0 : oddFactorialMod(number, arithmetic);
+        long powerOfTwo = arithmetic.fromMontgomery(arithmetic.pow(arithmetic.toMontgomery(2), twos));
+        long inversePowerOfTwo = inverse(powerOfTwo, odd);
+        return arithmetic.multiplyResidues(residue, inversePowerOfTwo) << twos;
+    }
+
+    /**
+     * n! mod an odd modulus above n.
+     */
+    private long oddFactorialMod(long number, MontgomeryModulus arithmetic) {
+        long modulus = arithmetic.modulus();
+        if (number > modulus / 2 && Primes.isPrime(modulus)) {
+            // (p - 1)! = n! (n + 1)...(p - 1) = n! (-1)^k k! = -1 with k = p - 1 - n
+            wilsonReflections.increment();
+            long k = modulus - 1 - number;
+            long reflected = k < SMALL_INPUT
+                    ? ProductTree.product(2, (int) k).mod(BigInteger.valueOf(modulus)).longValue()
+                    : boundedProduct(k, arithmetic);
+            long inverse = inverse(reflected, modulus);
+            return (k & 1) == 0 ? modulus - inverse : inverse;
+        }
+        return boundedProduct(number, arithmetic);
+    }
+
+    /**
+     * Runs a product for a query, holding one of the concurrency permits.
+     */
+    private long boundedProduct(long number, MontgomeryModulus arithmetic) {
+        if (!permits.tryAcquire()) {
+            rejections.increment();
+            throw new RejectedExecutionException(String.format(
+                "Too many modular factorials in progress, maximum is %d", maxConcurrent));
+        }
+        try {
+            return product(number, arithmetic, maxMultiplications);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Multiplies 1..n in Montgomery form, starting from the nearest checkpoint and
+     * recording the checkpoints of all completed chunks.
+     */
+    private long product(long number, MontgomeryModulus arithmetic, long limit) {
+        CheckpointTable table = tableFor(arithmetic.modulus());
+        long start = 0;
+        long startResidue = 1;
+        if (table != null) {
+            int index = table.floor(number / stride);
+            start = (long) index * stride;
+            startResidue = table.get(index);
+            if (index > 0) {
+                checkpointRestarts.increment();
+            }
+        }
+
+        long count = number - start;
+        if (count > limit) {
+            throw new IllegalArgumentException(String.format(
+                "Too many multiplications: %d from the nearest checkpoint, maximum is %d", count, limit));
+        }
+        products.increment();
+        multiplications.add(count);
+
+        int chunks = (int) ((count + stride - 1) / stride);
+        long[] chunkProducts = new long[chunks];
+        if (chunks > 0) {
+            pool.invoke(new ChunkProductTask(arithmetic, start, number, stride, chunkProducts, 0, chunks));
+        }
+
+        long accumulated = arithmetic.toMontgomery(startResidue);
+        long firstCheckpoint = start / stride;
+        for (int i = 0; i < chunks; i++) {
+            accumulated = arithmetic.multiply(accumulated, chunkProducts[i]);
+            long end = start + (long) (i + 1) * stride;
+            if (table != null && end <= number) {
+                table.append(firstCheckpoint + i + 1, arithmetic.fromMontgomery(accumulated));
+            }
+        }
+        return arithmetic.fromMontgomery(accumulated);
+    }
+
+    /**
+     * Gets the table of a modulus, creating an on-demand one and evicting the least
+     * recently used if needed. Queries still using an evicted table finish with it.
+     */
+    private CheckpointTable tableFor(long modulus) {
+        CheckpointTable reserved = reservedTables.get(modulus);
+        if (reserved != null || maxTables == 0) {
+            return reserved;
+        }
+        synchronized (onDemandTables) {
+            CheckpointTable table = onDemandTables.get(modulus);
+            if (table == null) {
+                table = new CheckpointTable();
+                onDemandTables.put(modulus, table);
+                if (onDemandTables.size() > maxTables) {
+                    Iterator<Long> eldest = onDemandTables.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    tableEvictions.increment();
+                }
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Inverse of a mod an odd modulus by the extended Euclidean algorithm.
+     */
+    private static long inverse(long a, long modulus) {
+        long r0 = modulus;
+        long r1 = a;
+        long t0 = 0;
+        long t1 = 1;
+        while (r1 != 0) {
+            long q = r0 / r1;
+            long r = r0 - q * r1;
+            r0 = r1;
+            r1 = r;
+            long t = t0 - q * t1;
+            t0 = t1;
+            t1 = t;
+        }
+        if (r0 != 1) {
+            throw new IllegalArgumentException(String.format("%d has no inverse mod %d", a, modulus));
+        }
+        return t0 < 0 ? t0 + modulus : t0;
+    }
+
+    // Statistics for the metrics endpoint
+    public long getZeroShortcutCount() {
+        return zeroShortcuts.sum();
+    }
+
+    public long getWilsonReflectionCount() {
+        return wilsonReflections.sum();
+    }
+
+    public long getProductCount() {
+        return products.sum();
+    }
+
+    public long getCheckpointRestartCount() {
+        return checkpointRestarts.sum();
+    }
+
+    public long getMultiplicationCount() {
+        return multiplications.sum();
+    }
+
+    /**
+     * Gets the number of queries rejected because too many products were running.
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public long getTableEvictionCount() {
+        return tableEvictions.sum();
+    }
+
+    public long getCheckpointCount() {
+        List<CheckpointTable> all = new ArrayList<>(reservedTables.values());
+        synchronized (onDemandTables) {
+            all.addAll(onDemandTables.values());
+        }
+        long count = 0;
+        for (CheckpointTable table : all) {
+            count += table.size();
+        }
+        return count;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Residues (j * stride)! mod m of one modulus for j = 0, 1, 2, ...
+     * Queries restart from the last checkpoint below their input and append the
+     * following ones, so the table only ever grows at its end.
+     */
+    private static class CheckpointTable {
+
+        private long[] residues = {1};
+        private int size = 1;
+
+        synchronized int floor(long index) {
+            return (int) Math.min(index, size - 1);
+        }
+
+        synchronized long get(int index) {
+            return residues[index];
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void append(long index, long residue) {
+            // A concurrent query may already have appended it
+            if (index != size || size >= MAX_CHECKPOINTS_PER_TABLE) {
+                return;
+            }
+            if (size == residues.length) {
+                residues = Arrays.copyOf(residues, Math.min(size * 2, MAX_CHECKPOINTS_PER_TABLE));
+            }
+            residues[size++] = residue;
+        }
+    }
+
+    /**
+     * Fork/join task computing the Montgomery form of the product of each chunk in
+     * [from, to) of the range (start, end], chunk i covering
+     * start + i * stride + 1 .. min(end, start + (i + 1) * stride).
+     */
+    @SuppressWarnings("serial") // Never serialized
+    private static class ChunkProductTask extends RecursiveAction {
+
+        private final MontgomeryModulus arithmetic;
+        private final long start;
+        private final long end;
+        private final int stride;
+        private final long[] results;
+        private final int from;
+        private final int to;
+
+        ChunkProductTask(MontgomeryModulus arithmetic, long start, long end, int stride,
+                         long[] results, int from, int to) {
+            this.arithmetic = arithmetic;
+            this.start = start;
+            this.end = end;
+            this.stride = stride;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkProductTask(arithmetic, start, end, stride, results, from, middle),
+                          new ChunkProductTask(arithmetic, start, end, stride, results, middle, to));
+                return;
+            }
+            long first = start + (long) from * stride + 1;
+            long last = Math.min(end, start + (long) to * stride);
+            // Each plain factor removes one R, so starting from R^(k + 1) leaves the product times R.
+            // Four independent chains hide the latency of the dependent multiplications; the
+            // other three start from R and each combining multiplication removes one more R.
+            long a0 = arithmetic.powerOfR(last - first + 1);
+            long a1 = arithmetic.one();
+            long a2 = a1;
+            long a3 = a1;
+            long i = first;
+            for (; i + 3 <= last; i += 4) {
+                a0 = arithmetic.multiply(a0, i);
+                a1 = arithmetic.multiply(a1, i + 1);
+                a2 = arithmetic.multiply(a2, i + 2);
+                a3 = arithmetic.multiply(a3, i + 3);
+            }
+            for (; i <= last; i++) {
+                a0 = arithmetic.multiply(a0, i);
+            }
+            results[from] = arithmetic.multiply(arithmetic.multiply(a0, a1), arithmetic.multiply(a2, a3));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pre-rendered page fragments and entity tags of the HTML pages.
+ *
+ * The application-info card and the strategy badge only depend on configuration,
+ * so they are rendered once at startup and inserted verbatim by the templates.
+ *
+ * The main page served by {@code GET /} only varies with the connection status,
+ * so its two possible strong ETags are computed up front from the template, its
+ * stylesheet and script, the configuration and the rendered fragments; a
+ * conditional request is answered with 304 before any model is built. The properties page shows live statistics
+ * and is tagged with a hash of its model instead, which still skips rendering
+ * and transfer when nothing changed between two polls.
+ */
+@Service
+public class PageRenderCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageRenderCache.class);
+
+    // Template and asset locations; assets are linked by content hash, so they are part of the page
+    private static final String TEMPLATE_LOCATION = "classpath:templates/";
+    private static final String STATIC_LOCATION = "classpath:static/";
+    private static final String FRAGMENTS_TEMPLATE = "fragments/static-parts";
+    private static final String APP_INFO_CARD_FRAGMENT = "app-info-card";
+    private static final String STRATEGY_BADGE_FRAGMENT = "strategy-badge";
+    private static final String INDEX_TEMPLATE = "index";
+    private static final String PROPERTIES_TEMPLATE = "properties";
+
+    private static final long FNV64_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV64_PRIME = 0x100000001B3L;
+
+    private final String appInfoCard;
+    private final String strategyBadge;
+    private final String validIndexETag;
+    private final String invalidIndexETag;
+    private final long propertiesSeed;
+
+    public PageRenderCache(ITemplateEngine templateEngine,
+                           ResourceLoader resourceLoader,
+                           ModelAttributeService modelAttributeService,
+                           ColorService colorService,
+                           CalculationService calculationService) {
+        Context context = new Context();
+        context.setVariable("appEnv", modelAttributeService.getApplicationEnvironment());
+        context.setVariable("appAuthor", modelAttributeService.getApplicationAuthor());
+        context.setVariable("appVersion", modelAttributeService.getApplicationVersion());
+        context.setVariable("appFactorialStrategy", modelAttributeService.getFactorialStrategy());
+        context.setVariable("envColor", colorService.getColorForEnv(modelAttributeService.getApplicationEnvironment()));
+        context.setVariable("authorColor", colorService.getColorForAuthor(modelAttributeService.getApplicationAuthor()));
+        context.setVariable("versionColor", colorService.getColorForVersion(modelAttributeService.getApplicationVersion()));
+
+        this.appInfoCard = templateEngine.process(FRAGMENTS_TEMPLATE, Set.of(APP_INFO_CARD_FRAGMENT), context);
+        this.strategyBadge = templateEngine.process(FRAGMENTS_TEMPLATE, Set.of(STRATEGY_BADGE_FRAGMENT), context);
+
+        MessageDigest digest = newDigest();
+        digest.update(read(resourceLoader, TEMPLATE_LOCATION + INDEX_TEMPLATE + ".html"));
+        digest.update(read(resourceLoader, STATIC_LOCATION + "css/" + INDEX_TEMPLATE + ".css"));
+        digest.update(read(resourceLoader, STATIC_LOCATION + "js/" + INDEX_TEMPLATE + ".js"));
+        update(digest, appInfoCard);
+        update(digest, strategyBadge);
+        update(digest, modelAttributeService.getApplicationName());
+        update(digest, Integer.toString(calculationService.getMaxSafeFactorialInput()));
+        byte[] indexFingerprint = digest.digest();
+
+        this.validIndexETag = indexETag(indexFingerprint, true);
+        this.invalidIndexETag = indexETag(indexFingerprint, false);
+        
+        long seed = fnv1a(FNV64_OFFSET_BASIS, read(resourceLoader, TEMPLATE_LOCATION + PROPERTIES_TEMPLATE + ".html"));
+        seed = fnv1a(seed, read(resourceLoader, STATIC_LOCATION + "css/" + PROPERTIES_TEMPLATE + ".css"));
+        this.propertiesSeed = fnv1a(seed, read(resourceLoader, STATIC_LOCATION + "js/" + PROPERTIES_TEMPLATE + ".js"));
+
+        logger.info("Page render cache initialized, main page tag {}", validIndexETag);
+    }
+
+    /**
+     * Gets the pre-rendered application-info card.
+     *
+     * @return The card markup
+     */
+    public String getAppInfoCard() {
+        return appInfoCard;
+    }
+
+    /**
+     * Gets the pre-rendered factorial strategy badge.
+     *
+     * @return The badge markup
+     */
+    public String getStrategyBadge() {
+        return strategyBadge;
+    }
+
+    /**
+     * Gets the strong ETag of the main page.
+     *
+     * @param isTokenValid The connection status shown on the page
+     * @return The quoted entity tag
+     */
+    public String getIndexETag(boolean isTokenValid) {
+        return isTokenValid ? validIndexETag : invalidIndexETag;
+    }
+
+    /**
+     * Computes the strong ETag of the properties page from its model.
+     * Attribute values are hashed through their string form, which is what the
+     * template renders.
+     *
+     * @param attributes The complete model of the page
+     * @return The quoted entity tag
+     */
+    public String getPropertiesETag(Map<String, Object> attributes) {
+        long hash = propertiesSeed;
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            hash = fnv1a(hash, attribute.getKey());
+            hash = fnv1a(hash, String.valueOf(attribute.getValue()));
+        }
+        return "\"p-" + Long.toHexString(hash) + "\"";
+    }
+
+    private static String indexETag(byte[] fingerprint, boolean isTokenValid) {
+        return "\"i-" + HexFormat.of().formatHex(fingerprint, 0, 12) + (isTokenValid ? "-v\"" : "-x\"");
+    }
+
+    private static long fnv1a(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV64_PRIME;
+        }
+        // Separator so that adjacent values cannot shift into each other
+        return (hash ^ 0xFFFF) * FNV64_PRIME;
+    }
+
+    private static long fnv1a(long hash, byte[] bytes) {
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * FNV64_PRIME;
+        }
+        return hash;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static byte[] read(ResourceLoader resourceLoader, String location) {
+        try (InputStream in = resourceLoader.getResource(location).getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + location, e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
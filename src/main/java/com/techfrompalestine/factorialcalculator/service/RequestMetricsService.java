@@ -0,0 +1,141 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.stereotype.Service;
+import com.techfrompalestine.factorialcalculator.metrics.InputSizeBucket;
+import com.techfrompalestine.factorialcalculator.metrics.Outcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counts and latency sums by strategy, input size and outcome.
+ * 
+ * One cell per combination of dimensions is allocated up front, so recording
+ * is an index computation plus two striped LongAdder increments. Concurrent
+ * requests never contend on a shared counter, and recording never allocates.
+ */
+@Service
+public class RequestMetricsService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsService.class);
+    
+    private static final InputSizeBucket[] SIZES = InputSizeBucket.values();
+    private static final Outcome[] OUTCOMES = Outcome.values();
+    
+    private final CalculationService calculationService;
+    private final List<String> strategyNames;
+    private final Map<String, Integer> strategyIndex = new HashMap<>();
+    private final Cell[] cells;
+    
+    public RequestMetricsService(CalculationService calculationService) {
+        this.calculationService = calculationService;
+        List<String> names = new ArrayList<>(calculationService.getStrategyNames());
+        if (!names.contains(calculationService.getStrategyType())) {
+            names.add(calculationService.getStrategyType());
+        }
+        this.strategyNames = List.copyOf(names);
+        for (int i = 0; i < strategyNames.size(); i++) {
+            strategyIndex.put(strategyNames.get(i), i);
+        }
+        
+        this.cells = new Cell[strategyNames.size() * SIZES.length * OUTCOMES.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Cell();
+        }
+        logger.info("Request metrics initialized with {} cells", cells.length);
+    }
+    
+    /**
+     * Records a request served by the configured strategy.
+     * 
+     * @param number The factorial input, or the largest input of a batch
+     * @param outcome How the request ended
+     * @param latencyNanos The response time reported for the request
+     */
+    public void record(int number, Outcome outcome, long latencyNanos) {
+        record(calculationService.getStrategyType(), number, outcome, latencyNanos);
+    }
+    
+    /**
+     * Records a request.
+     * 
+     * @param strategy The strategy name
+     * @param number The factorial input, or the largest input of a batch
+     * @param outcome How the request ended
+     * @param latencyNanos The response time reported for the request
+     */
+    public void record(String strategy, int number, Outcome outcome, long latencyNanos) {
+        Integer strategyPosition = strategyIndex.get(strategy);
+        if (strategyPosition == null) {
+            return;
+        }
+        Cell cell = cells[(strategyPosition * SIZES.length + InputSizeBucket.of(number).ordinal()) 
+                          * OUTCOMES.length + outcome.ordinal()];
+        cell.count.increment();
+        cell.latencyNanos.add(latencyNanos);
+    }
+    
+    /**
+     * Reads all cells that have recorded at least one request.
+     * 
+     * @return The non-empty cells in strategy, size and outcome order
+     */
+    public List<Row> snapshot() {
+        List<Row> rows = new ArrayList<>();
+        forEachCell((strategy, size, outcome, count, latencyNanosSum) -> {
+            if (count > 0) {
+                rows.add(new Row(strategy, size, outcome, count, latencyNanosSum));
+            }
+        });
+        return rows;
+    }
+    
+    /**
+     * Visits every cell, including empty ones, without allocating.
+     * 
+     * @param visitor Receives the dimensions and totals of each cell
+     */
+    public void forEachCell(CellVisitor visitor) {
+        int index = 0;
+        for (String strategy : strategyNames) {
+            for (InputSizeBucket size : SIZES) {
+                for (Outcome outcome : OUTCOMES) {
+                    Cell cell = cells[index++];
+                    visitor.visit(strategy, size, outcome, cell.count.sum(), cell.latencyNanos.sum());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Counters of one combination of dimensions
+     */
+    private static final class Cell {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+    }
+    
+    /**
+     * Receiver of cell totals
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+        void visit(String strategy, InputSizeBucket size, Outcome outcome, long count, long latencyNanosSum);
+    }
+    
+    /**
+     * Totals of one combination of dimensions.
+     * 
+     * @param strategy The strategy name
+     * @param size The input size bucket
+     * @param outcome The request outcome
+     * @param count Number of requests
+     * @param latencyNanosSum Sum of response times in nanoseconds
+     */
+    public record Row(String strategy, InputSizeBucket size, Outcome outcome, long count, long latencyNanosSum) {
+    }
+}
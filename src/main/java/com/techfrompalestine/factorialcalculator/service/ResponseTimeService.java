@@ -1,15 +1,31 @@
 package com.techfrompalestine.factorialcalculator.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import com.techfrompalestine.factorialcalculator.metrics.LatencyHistogram;
+import com.techfrompalestine.factorialcalculator.metrics.RollingWindowStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Service responsible for tracking and calculating response time statistics.
  * Maintains a rolling window of response times for performance monitoring.
  * 
+ * Samples are kept in a fixed-capacity ring of primitive nanosecond values.
+ * Recording claims a slot with one atomic increment and never locks or
+ * allocates; the average comes from a running sum. Min and max need a scan of
+ * the ring, which is skipped only while no new samples arrived, so under load
+ * every read rescans; callers needing both read them from one
+ * {@link #getResponseTimeRange()}.
+ * 
+ * Every sample is also counted in a log-linear histogram covering all
+ * requests since startup, which answers percentile queries, and in
+ * per-second buckets behind the 1, 5 and 15 minute windows and moving averages.
+ * 
  * This service is thread-safe and can handle concurrent requests.
  */
 @Service
@@ -19,10 +35,17 @@ public class ResponseTimeService {
     
     // Configuration constants
     private static final int DEFAULT_MAX_SAMPLES = 100;
+    private static final int DEFAULT_SIGNIFICANT_DIGITS = 2;
+    private static final long DEFAULT_MAX_TRACKABLE_SECONDS = 3600;
     private static final double MINIMUM_RESPONSE_TIME = 0.0;
+    private static final double NANOS_PER_SECOND = 1e9;
     
-    private final Queue<Double> responseTimes;
     private final int maxSamples;
+    private final int significantDigits;
+    private final long maxTrackableNanos;
+    private volatile Window window;
+    private volatile LatencyHistogram histogram;
+    private volatile RollingWindowStats windowStats = new RollingWindowStats();
     
     /**
      * Constructor with default maximum samples configuration.
@@ -37,15 +60,33 @@ public class ResponseTimeService {
      * @param maxSamples Maximum number of response time samples to maintain
      */
     public ResponseTimeService(int maxSamples) {
-        this.responseTimes = new ConcurrentLinkedQueue<>();
+        this(maxSamples, DEFAULT_SIGNIFICANT_DIGITS, DEFAULT_MAX_TRACKABLE_SECONDS);
+    }
+    
+    /**
+     * Constructor allowing custom sample window and histogram configuration.
+     * 
+     * @param maxSamples Maximum number of response time samples to maintain
+     * @param significantDigits Decimal digits of percentile precision
+     * @param maxTrackableSeconds Largest response time tracked without clamping
+     */
+    @Autowired
+    public ResponseTimeService(@Value("${app.metrics.response-time.max-samples:100}") int maxSamples,
+                               @Value("${app.metrics.histogram.significant-digits:2}") int significantDigits,
+                               @Value("${app.metrics.histogram.max-seconds:3600}") long maxTrackableSeconds) {
         this.maxSamples = Math.max(1, maxSamples); // Ensure at least 1 sample
+        this.significantDigits = significantDigits;
+        this.maxTrackableNanos = maxTrackableSeconds * (long) NANOS_PER_SECOND;
+        this.window = new Window(this.maxSamples);
+        this.histogram = new LatencyHistogram(maxTrackableNanos, significantDigits);
         
-        logger.info("ResponseTimeService initialized with max samples: {}", this.maxSamples);
+        logger.info("ResponseTimeService initialized with max samples: {}, histogram precision: {} digits", 
+                    this.maxSamples, significantDigits);
     }
     
     /**
      * Records a new response time measurement.
-     * If the maximum number of samples is exceeded, the oldest sample is removed.
+     * If the maximum number of samples is exceeded, the oldest sample is overwritten.
      * 
      * @param responseTime The response time to record (in seconds)
      * @throws IllegalArgumentException if responseTime is negative
@@ -53,17 +94,15 @@ public class ResponseTimeService {
     public void addResponseTime(double responseTime) {
         validateResponseTime(responseTime);
         
-        synchronized (this) {
-            responseTimes.offer(responseTime);
-            
-            // Remove oldest samples if we exceed the maximum
-            while (responseTimes.size() > maxSamples) {
-                responseTimes.poll();
-            }
-        }
+        long nanos = Math.round(responseTime * NANOS_PER_SECOND);
+        Window current = window;
+        current.record(nanos);
+        histogram.record(nanos);
+        windowStats.record(nanos);
         
-        logger.debug("Recorded response time: {:.3f}s (total samples: {})", 
-                    responseTime, responseTimes.size());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Recorded response time: {}s (total samples: {})", responseTime, current.count());
+        }
     }
     
     /**
@@ -72,22 +111,12 @@ public class ResponseTimeService {
      * @return The average response time in seconds, or 0.0 if no samples exist
      */
     public double getAverageResponseTime() {
-        if (responseTimes.isEmpty()) {
+        Window current = window;
+        int count = current.count();
+        if (count == 0) {
             return 0.0;
         }
-        
-        synchronized (this) {
-            double sum = responseTimes.stream()
-                    .mapToDouble(Double::doubleValue)
-                    .sum();
-            
-            double average = sum / responseTimes.size();
-            
-            logger.debug("Calculated average response time: {:.3f}s from {} samples", 
-                        average, responseTimes.size());
-            
-            return average;
-        }
+        return current.sum.sum() / (double) count / NANOS_PER_SECOND;
     }
     
     /**
@@ -96,7 +125,7 @@ public class ResponseTimeService {
      * @return The number of recorded samples
      */
     public int getSampleCount() {
-        return responseTimes.size();
+        return window.count();
     }
     
     /**
@@ -105,16 +134,7 @@ public class ResponseTimeService {
      * @return The maximum response time, or 0.0 if no samples exist
      */
     public double getMaxResponseTime() {
-        if (responseTimes.isEmpty()) {
-            return 0.0;
-        }
-        
-        synchronized (this) {
-            return responseTimes.stream()
-                    .mapToDouble(Double::doubleValue)
-                    .max()
-                    .orElse(0.0);
-        }
+        return window.snapshot().maxNanos / NANOS_PER_SECOND;
     }
     
     /**
@@ -123,16 +143,76 @@ public class ResponseTimeService {
      * @return The minimum response time, or 0.0 if no samples exist
      */
     public double getMinResponseTime() {
-        if (responseTimes.isEmpty()) {
-            return 0.0;
-        }
-        
-        synchronized (this) {
-            return responseTimes.stream()
-                    .mapToDouble(Double::doubleValue)
-                    .min()
-                    .orElse(0.0);
-        }
+        return window.snapshot().minNanos / NANOS_PER_SECOND;
+    }
+    
+    /**
+     * Gets the minimum and maximum response time from one scan of the recorded samples.
+     * 
+     * @return The range in seconds, 0.0 to 0.0 if no samples exist
+     */
+    public Range getResponseTimeRange() {
+        Snapshot current = window.snapshot();
+        return new Range(current.minNanos / NANOS_PER_SECOND, current.maxNanos / NANOS_PER_SECOND);
+    }
+    
+    /**
+     * Gets a response time percentile over all requests since startup or the last clear.
+     * 
+     * @param percentile The percentile, 0 to 100
+     * @return The response time in seconds, or 0.0 if no samples exist
+     */
+    public double getPercentileResponseTime(double percentile) {
+        return histogram.snapshot().valueAtPercentile(percentile) / NANOS_PER_SECOND;
+    }
+    
+    /**
+     * Reads several response time percentiles without copying the histogram.
+     * 
+     * @param percentiles The percentiles, 0 to 100, in ascending order
+     * @param nanos Receives the response time at each percentile in nanoseconds
+     * @return The number of requests the percentiles cover
+     */
+    public long getPercentileResponseTimes(double[] percentiles, long[] nanos) {
+        return histogram.valuesAtPercentiles(percentiles, nanos);
+    }
+    
+    /**
+     * Gets the sum of all response times recorded in the histogram.
+     * 
+     * @return The total response time in seconds
+     */
+    public double getTotalResponseTime() {
+        return histogram.getTotalValue() / NANOS_PER_SECOND;
+    }
+    
+    /**
+     * Gets a snapshot of the response time histogram in nanoseconds.
+     * Use one snapshot to read several consistent percentiles.
+     * 
+     * @return The histogram snapshot
+     */
+    public LatencyHistogram.Snapshot getHistogramSnapshot() {
+        return histogram.snapshot();
+    }
+    
+    /**
+     * Gets request count, rate and latency over a recent time window.
+     * 
+     * @param seconds The window length, e.g. {@link RollingWindowStats#FIVE_MINUTES}
+     * @return The window summary with latencies in nanoseconds
+     */
+    public RollingWindowStats.Window getWindowStats(int seconds) {
+        return windowStats.window(seconds);
+    }
+    
+    /**
+     * Gets the exponentially weighted 1, 5 and 15 minute request rates and latencies.
+     * 
+     * @return The moving averages with latencies in nanoseconds
+     */
+    public RollingWindowStats.Ewma getMovingAverages() {
+        return windowStats.ewma();
     }
     
     /**
@@ -140,10 +220,10 @@ public class ResponseTimeService {
      * Useful for resetting statistics.
      */
     public void clearSamples() {
-        synchronized (this) {
-            responseTimes.clear();
-            logger.info("Cleared all response time samples");
-        }
+        window = new Window(maxSamples);
+        histogram = new LatencyHistogram(maxTrackableNanos, significantDigits);
+        windowStats = new RollingWindowStats();
+        logger.info("Cleared all response time samples");
     }
     
     /**
@@ -161,7 +241,7 @@ public class ResponseTimeService {
      * @return true if samples exist, false otherwise
      */
     public boolean hasSamples() {
-        return !responseTimes.isEmpty();
+        return window.count() > 0;
     }
     
     /**
@@ -183,4 +263,65 @@ public class ResponseTimeService {
             );
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Ring of the most recent samples in nanoseconds.
+     * Replaced as a whole on clear, so a reset never races with the running sum.
+     */
+    private static final class Window {
+        private final AtomicLongArray samples;
+        private final AtomicLong cursor = new AtomicLong();
+        private final LongAdder sum = new LongAdder();
+        private volatile Snapshot snapshot = new Snapshot(0, 0, 0);
+        
+        Window(int capacity) {
+            this.samples = new AtomicLongArray(capacity);
+        }
+        
+        void record(long nanos) {
+            long sequence = cursor.getAndIncrement();
+            // Empty slots hold 0, so the first pass subtracts nothing
+            long previous = samples.getAndSet((int) (sequence % samples.length()), nanos);
+            sum.add(nanos - previous);
+        }
+        
+        int count() {
+            return (int) Math.min(cursor.get(), samples.length());
+        }
+        
+        Snapshot snapshot() {
+            long sequence = cursor.get();
+            Snapshot current = snapshot;
+            if (current.sequence == sequence) {
+                return current;
+            }
+            
+            int count = (int) Math.min(sequence, samples.length());
+            long min = Long.MAX_VALUE;
+            long max = 0;
+            for (int i = 0; i < count; i++) {
+                long nanos = samples.get(i);
+                min = Math.min(min, nanos);
+                max = Math.max(max, nanos);
+            }
+            current = new Snapshot(sequence, count == 0 ? 0 : min, max);
+            snapshot = current;
+            return current;
+        }
+    }
+    
+    /**
+     * Minimum and maximum of the recorded samples.
+     * 
+     * @param min The minimum response time in seconds
+     * @param max The maximum response time in seconds
+     */
+    public record Range(double min, double max) {
+    }
+    
+    /**
+     * Min and max of the ring as of a cursor position
+     */
+    private record Snapshot(long sequence, long minNanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records how long after JVM start the application reached each startup milestone.
+ *
+ * The JVM is considered up when {@code main} is entered, i.e. once the JVM has
+ * booted and loaded the application class; the remaining milestones are taken
+ * from the Spring lifecycle events and from the first completed response. Each
+ * milestone is recorded once, so later refreshes or requests do not move it.
+ */
+@Service
+public class StartupMilestoneService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupMilestoneService.class);
+
+    private static final long NOT_REACHED = -1;
+
+    // Wall-clock time main() was entered; set before the context exists
+    private static volatile long mainStartedMillis = NOT_REACHED;
+
+    /**
+     * Startup milestones, in the order they are reached.
+     */
+    public enum Milestone {
+        JVM_UP("jvm_up"),
+        CONTEXT_REFRESHED("context_refreshed"),
+        APPLICATION_READY("application_ready"),
+        FIRST_REQUEST_SERVED("first_request_served");
+
+        private final String label;
+
+        Milestone(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicLongArray reachedMillis = new AtomicLongArray(Milestone.values().length);
+
+    public StartupMilestoneService() {
+        for (int i = 0; i < reachedMillis.length(); i++) {
+            reachedMillis.set(i, NOT_REACHED);
+        }
+        if (mainStartedMillis != NOT_REACHED) {
+            reachedMillis.set(Milestone.JVM_UP.ordinal(), mainStartedMillis - jvmStartMillis);
+        }
+    }
+
+    /**
+     * Marks the JVM as up. Called first thing in {@code main}.
+     */
+    public static void markMainStarted() {
+        if (mainStartedMillis == NOT_REACHED) {
+            mainStartedMillis = System.currentTimeMillis();
+        }
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        reach(Milestone.CONTEXT_REFRESHED);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reach(Milestone.APPLICATION_READY);
+    }
+
+    /**
+     * Marks a completed response. Only the first call records anything.
+     */
+    public void markRequestServed() {
+        if (reach(Milestone.FIRST_REQUEST_SERVED)) {
+            logger.info("Startup milestones after JVM start: JVM up {} ms, context refreshed {} ms, "
+                        + "ready {} ms, first request served {} ms",
+                        format(Milestone.JVM_UP), format(Milestone.CONTEXT_REFRESHED),
+                        format(Milestone.APPLICATION_READY), format(Milestone.FIRST_REQUEST_SERVED));
+        }
+    }
+
+    /**
+     * Checks whether a milestone has been reached.
+     *
+     * @param milestone The milestone
+     * @return true if it has been recorded
+     */
+    public boolean isReached(Milestone milestone) {
+        return reachedMillis.get(milestone.ordinal()) != NOT_REACHED;
+    }
+
+    /**
+     * Gets the time from JVM start to a milestone.
+     *
+     * @param milestone The milestone
+     * @return The elapsed milliseconds, or -1 if the milestone has not been reached
+     */
+    public long getMillisSinceJvmStart(Milestone milestone) {
+        return reachedMillis.get(milestone.ordinal());
+    }
+
+    private boolean reach(Milestone milestone) {
+        return reachedMillis.compareAndSet(milestone.ordinal(), NOT_REACHED,
+                                           System.currentTimeMillis() - jvmStartMillis);
+    }
+
+    private String format(Milestone milestone) {
+        long millis = getMillisSinceJvmStart(milestone);
+        return millis == NOT_REACHED ? "n/a" : Long.toString(millis);
+    }
+}
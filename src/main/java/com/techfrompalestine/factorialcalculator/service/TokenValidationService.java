@@ -0,0 +1,274 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.techfrompalestine.factorialcalculator.config.TokenConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-request validation of the connection token sent in the
+ * {@value #TOKEN_HEADER} header.
+ *
+ * Accepted tokens are held pre-decoded in an immutable snapshot that is
+ * swapped atomically when the token file changes, so a rotation takes effect
+ * without a restart and never exposes a half-read token set. Presented tokens
+ * are compared in constant time against every accepted token. Verdicts of
+ * recently presented tokens are kept in a small direct-mapped cache tagged
+ * with the snapshot generation, so a rotation invalidates them all at once.
+ *
+ * Without a token file the accepted set is the token of the current
+ * environment. Requests without the header fall back to the static app.token
+ * verdict unless app.token.require-header is set.
+ */
+@Service
+public class TokenValidationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenValidationService.class);
+
+    /** Request header carrying the connection token. */
+    public static final String TOKEN_HEADER = "X-Connection-Token";
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String WATCHER_THREAD = "token-watcher";
+
+    private final TokenConfig tokenConfig;
+    private final Path tokenFile;
+    private final boolean requireHeader;
+    private final Verdict[] verdicts;
+    private final int verdictMask;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder failedReloads = new LongAdder();
+
+    private volatile TokenSet tokens = new TokenSet(0, new byte[0][]);
+    private WatchService watchService;
+
+    public TokenValidationService(TokenConfig tokenConfig,
+                                  @Value("${app.token.file:}") String tokenFile,
+                                  @Value("${app.token.require-header:false}") boolean requireHeader,
+                                  @Value("${app.token.verdict-cache-size:1024}") int verdictCacheSize) {
+        this.tokenConfig = tokenConfig;
+        this.tokenFile = tokenFile == null || tokenFile.isBlank() ? null : Path.of(tokenFile).toAbsolutePath();
+        this.requireHeader = requireHeader;
+        // Power of two, so that the slot is a mask of the hash
+        int size = Integer.highestOneBit(Math.max(1, Math.min(verdictCacheSize, 1 << 20)));
+        this.verdicts = new Verdict[size];
+        this.verdictMask = size - 1;
+    }
+
+    /**
+     * Loads the accepted tokens and starts watching the token file, if any.
+     * Called automatically after bean construction.
+     */
+    @PostConstruct
+    public void initialize() {
+        if (tokenFile == null) {
+            String encoded = tokenConfig.getEnvironmentTokens().get(tokenConfig.getCurrentEnvironment());
+            tokens = new TokenSet(1, new byte[][] {Base64.getDecoder().decode(encoded)});
+            logger.info("Token validation initialized with the {} environment token",
+                        tokenConfig.getCurrentEnvironment());
+            return;
+        }
+
+        try {
+            tokens = new TokenSet(1, readTokens(tokenFile));
+            watchService = tokenFile.getFileSystem().newWatchService();
+            tokenFile.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                           StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load token file " + tokenFile, e);
+        }
+        Thread.ofPlatform().name(WATCHER_THREAD).daemon(true).start(this::watch);
+        logger.info("Token validation initialized with {} tokens from {}", tokens.values().length, tokenFile);
+    }
+
+    /**
+     * Stops watching the token file.
+     */
+    @PreDestroy
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close token file watcher: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Validates the token presented by a request.
+     *
+     * @param presentedToken The {@value #TOKEN_HEADER} header value, or null if absent
+     * @return true if the request may be served
+     */
+    public boolean isValid(String presentedToken) {
+        if (presentedToken == null) {
+            return !requireHeader && tokenConfig.isTokenValid();
+        }
+
+        TokenSet current = tokens;
+        int slot = mix(presentedToken.hashCode()) & verdictMask;
+        Verdict cached = verdicts[slot];
+        if (cached != null && cached.generation() == current.generation()
+                && constantTimeEquals(cached.token(), presentedToken)) {
+            cacheHits.increment();
+            return cached.valid();
+        }
+
+        cacheMisses.increment();
+        boolean valid = matches(current, presentedToken.trim().getBytes(StandardCharsets.UTF_8));
+        // Entries are immutable, so a racing reader sees either the old or the new one
+        verdicts[slot] = new Verdict(presentedToken, current.generation(), valid);
+        return valid;
+    }
+
+    /**
+     * Re-reads the token file and swaps in the new token set.
+     * A file that cannot be read or decoded leaves the current set in place.
+     *
+     * @return true if the new set was installed
+     */
+    public synchronized boolean reload() {
+        if (tokenFile == null) {
+            return false;
+        }
+        try {
+            byte[][] values = readTokens(tokenFile);
+            tokens = new TokenSet(tokens.generation() + 1, values);
+            reloads.increment();
+            logger.info("Reloaded {} tokens from {}", values.length, tokenFile);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            failedReloads.increment();
+            logger.error("Keeping current tokens, failed to reload {}: {}", tokenFile, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Compares against every accepted token, so the time taken does not reveal which one matched.
+     */
+    private static boolean matches(TokenSet set, byte[] presented) {
+        boolean match = false;
+        for (byte[] accepted : set.values()) {
+            match |= MessageDigest.isEqual(presented, accepted);
+        }
+        return match;
+    }
+
+    /**
+     * String comparison whose time only depends on the presented length.
+     */
+    private static boolean constantTimeEquals(String cached, String presented) {
+        if (cached.isEmpty()) {
+            return presented.isEmpty();
+        }
+        int difference = cached.length() ^ presented.length();
+        for (int i = 0; i < presented.length(); i++) {
+            difference |= cached.charAt(i % cached.length()) ^ presented.charAt(i);
+        }
+        return difference == 0;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Reads one Base64 encoded token per line, skipping blank lines and # comments.
+     * A file without tokens is rejected; it is most likely being rewritten in place.
+     */
+    private static byte[][] readTokens(Path file) throws IOException {
+        List<byte[]> values = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith(COMMENT_PREFIX)) {
+                values.add(Base64.getDecoder().decode(trimmed));
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("no tokens in " + file);
+        }
+        return values.toArray(new byte[0][]);
+    }
+
+    /**
+     * Reloads the token file whenever it is created, replaced or modified.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= tokenFile.getFileName().equals(event.context());
+                }
+                if (changed) {
+                    reload();
+                }
+                if (!key.reset()) {
+                    logger.warn("Token file directory {} is no longer watched", tokenFile.getParent());
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Token file watcher stopped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Statistics for the metrics endpoint
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMisses.sum();
+    }
+
+    public long getReloadCount() {
+        return reloads.sum();
+    }
+
+    public long getFailedReloadCount() {
+        return failedReloads.sum();
+    }
+
+    public int getTokenCount() {
+        return tokens.values().length;
+    }
+
+    /**
+     * Immutable set of accepted, decoded tokens.
+     */
+    private record TokenSet(long generation, byte[][] values) {
+    }
+
+    /**
+     * Cached verdict of one presented token under one token set generation.
+     */
+    private record Verdict(String token, long generation, boolean valid) {
+    }
+}
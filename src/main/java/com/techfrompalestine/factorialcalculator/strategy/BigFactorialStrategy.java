@@ -0,0 +1,18 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import java.math.BigInteger;
+
+/**
+ * Strategy interface for arbitrary-precision factorial calculation algorithms.
+ */
+public interface BigFactorialStrategy {
+    
+    /**
+     * Calculates the exact factorial of a given number.
+     * 
+     * @param number The number to calculate factorial for
+     * @return The factorial result
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    BigInteger calculate(int number);
+}
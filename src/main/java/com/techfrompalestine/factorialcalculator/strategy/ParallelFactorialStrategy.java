@@ -0,0 +1,94 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.math.ProductTree;
+import com.techfrompalestine.factorialcalculator.util.FactorialValidator;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Arbitrary-precision factorial computed as a balanced product tree on a fork/join pool.
+ * 
+ * The range [2..n] is split in halves until a range holds at most the configured
+ * leaf size; leaves are multiplied sequentially and subtrees are joined in parallel.
+ * The calling thread only waits for the pool, so request threads do no CPU work,
+ * and the kernel's parallel multiplications fork into the same pool.
+ */
+@Component
+public class ParallelFactorialStrategy implements BigFactorialStrategy {
+    
+    private static final int MIN_LEAF_SIZE = 16;
+    
+    private final ForkJoinPool pool;
+    private final MultiplicationKernel kernel;
+    private final int leafSize;
+    
+    public ParallelFactorialStrategy(ForkJoinPool factorialForkJoinPool,
+                                     MultiplicationKernel kernel,
+                                     @Value("${app.factorial.parallel.leaf-size:2048}") int leafSize) {
+        this.pool = factorialForkJoinPool;
+        this.kernel = kernel;
+        this.leafSize = Math.max(MIN_LEAF_SIZE, leafSize);
+    }
+    
+    @Override
+    public BigInteger calculate(int number) {
+        FactorialValidator.validateLargeInput(number);
+        
+        if (number < 2) {
+            return BigInteger.ONE;
+        }
+        
+        return pool.invoke(new RangeProductTask(2, number, leafSize, kernel));
+    }
+    
+    /**
+     * Gets the configured number of factors multiplied sequentially per leaf.
+     */
+    public int getLeafSize() {
+        return leafSize;
+    }
+    
+    /**
+     * Gets the parallelism of the underlying fork/join pool.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+    
+    /**
+     * Fork/join task multiplying the inclusive range [from, to].
+     */
+    @SuppressWarnings("serial") // Never serialized
+    private static class RangeProductTask extends RecursiveTask<BigInteger> {
+        
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final MultiplicationKernel kernel;
+        
+        RangeProductTask(int from, int to, int leafSize, MultiplicationKernel kernel) {
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.kernel = kernel;
+        }
+        
+        @Override
+        protected BigInteger compute() {
+            if (to - from < leafSize) {
+                return ProductTree.product(kernel, from, to);
+            }
+            
+            int middle = (from + to) >>> 1;
+            RangeProductTask left = new RangeProductTask(from, middle, leafSize, kernel);
+            RangeProductTask right = new RangeProductTask(middle + 1, to, leafSize, kernel);
+            left.fork();
+            BigInteger rightProduct = right.compute();
+            return kernel.multiply(left.join(), rightProduct);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.math.Primes;
+import com.techfrompalestine.factorialcalculator.math.ProductTree;
+import com.techfrompalestine.factorialcalculator.util.FactorialValidator;
+import java.math.BigInteger;
+
+/**
+ * Arbitrary-precision factorial using Luschny's prime-swing algorithm.
+ * 
+ * Uses n! = ((n/2)!)^2 * swing(n), where the swinging factorial is assembled from
+ * its prime factorization. Only odd parts are multiplied; the power of two,
+ * n - bitCount(n), is applied with a single shift at the end.
+ */
+@Component
+public class PrimeSwingFactorialStrategy implements BigFactorialStrategy {
+    
+    private final MultiplicationKernel kernel;
+    
+    /**
+     * Creates the strategy with the standard {@link BigInteger} multiplication.
+     */
+    public PrimeSwingFactorialStrategy() {
+        this(MultiplicationKernel.STANDARD);
+    }
+    
+    @Autowired
+    public PrimeSwingFactorialStrategy(MultiplicationKernel kernel) {
+        this.kernel = kernel;
+    }
+    
+    @Override
+    public BigInteger calculate(int number) {
+        FactorialValidator.validateLargeInput(number);
+        
+        if (number < 2) {
+            return BigInteger.ONE;
+        }
+        
+        int[] oddPrimes = Primes.sieveOddPrimes(number);
+        long[] factors = new long[oddPrimes.length];
+        
+        return oddFactorial(number, oddPrimes, factors)
+                .shiftLeft(number - Integer.bitCount(number));
+    }
+    
+    /**
+     * Computes the odd part of n! as oddFactorial(n / 2)^2 * oddSwing(n).
+     */
+    private BigInteger oddFactorial(int n, int[] oddPrimes, long[] factors) {
+        if (n < 3) {
+            return BigInteger.ONE;
+        }
+        BigInteger half = oddFactorial(n / 2, oddPrimes, factors);
+        return kernel.multiply(kernel.square(half), oddSwing(n, oddPrimes, factors));
+    }
+    
+    /**
+     * Computes the odd part of the swinging factorial n! / ((n/2)!)^2.
+     * The exponent of a prime p is the number of odd terms in n/p, n/p^2, ...
+     */
+    private BigInteger oddSwing(int n, int[] oddPrimes, long[] factors) {
+        int sqrtN = (int) Math.sqrt(n);
+        int count = 0;
+        
+        for (int prime : oddPrimes) {
+            if (prime > n) {
+                break;
+            }
+            if (prime > n / 2) {
+                factors[count++] = prime;
+            } else if (prime > n / 3) {
+                continue;
+            } else if (prime > sqrtN) {
+                if (((n / prime) & 1) == 1) {
+                    factors[count++] = prime;
+                }
+            } else {
+                long primePower = 1;
+                for (int q = n / prime; q > 0; q /= prime) {
+                    if ((q & 1) == 1) {
+                        primePower *= prime;
+                    }
+                }
+                if (primePower > 1) {
+                    factors[count++] = primePower;
+                }
+            }
+        }
+        
+        return ProductTree.product(kernel, factors, 0, count);
+    }
+}
@@ -0,0 +1,60 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.math.ProductTree;
+import com.techfrompalestine.factorialcalculator.util.FactorialValidator;
+import java.math.BigInteger;
+
+/**
+ * Arbitrary-precision factorial using Luschny's split-recursive algorithm.
+ * 
+ * The odd part of n! is built from binary-split products of odd numbers in the
+ * ranges (n / 2^(k+1), n / 2^k], and the power of two is applied with a single
+ * shift at the end.
+ */
+@Component
+public class SplitRecursiveFactorialStrategy implements BigFactorialStrategy {
+    
+    private final MultiplicationKernel kernel;
+    
+    /**
+     * Creates the strategy with the standard {@link BigInteger} multiplication.
+     */
+    public SplitRecursiveFactorialStrategy() {
+        this(MultiplicationKernel.STANDARD);
+    }
+    
+    @Autowired
+    public SplitRecursiveFactorialStrategy(MultiplicationKernel kernel) {
+        this.kernel = kernel;
+    }
+    
+    @Override
+    public BigInteger calculate(int number) {
+        FactorialValidator.validateLargeInput(number);
+        
+        if (number < 2) {
+            return BigInteger.ONE;
+        }
+        
+        BigInteger oddRangeProduct = BigInteger.ONE;
+        BigInteger result = BigInteger.ONE;
+        int shift = 0;
+        int high = 1;
+        
+        for (int log2 = 31 - Integer.numberOfLeadingZeros(number); log2 >= 0; log2--) {
+            int h = number >> log2;
+            shift += number >> (log2 + 1);
+            int low = high;
+            high = (h - 1) | 1;
+            if (high > low) {
+                oddRangeProduct = kernel.multiply(oddRangeProduct, ProductTree.oddProduct(kernel, low + 2, high));
+                result = kernel.multiply(result, oddRangeProduct);
+            }
+        }
+        
+        return result.shiftLeft(shift);
+    }
+}
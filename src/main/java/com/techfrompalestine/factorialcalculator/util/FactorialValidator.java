@@ -1,11 +1,18 @@
 package com.techfrompalestine.factorialcalculator.util;
 
+import java.util.List;
+
 /**
  * Utility class for validating factorial calculation inputs.
  */
 public class FactorialValidator {
     
     private static final int MAX_SAFE_FACTORIAL = 20;
+    private static final int MAX_LARGE_FACTORIAL = 1_000_000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    // About ten megabytes of rendered results, room for 1,000,000! and a little more
+    private static final long MAX_BATCH_OUTPUT_DIGITS = 10_000_000;
+    private static final long MAX_ANALYTICS_INPUT = 1_000_000_000_000L;
     
     /**
      * Validates input for factorial calculation.
@@ -14,14 +21,124 @@ public class FactorialValidator {
      * @throws IllegalArgumentException if the input is invalid
      */
     public static void validateInput(int number) {
+        validateInput(number, MAX_SAFE_FACTORIAL);
+    }
+    
+    /**
+     * Validates input for arbitrary-precision factorial calculation.
+     * 
+     * @param number The number to validate
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public static void validateLargeInput(int number) {
+        validateInput(number, MAX_LARGE_FACTORIAL);
+    }
+    
+    /**
+     * Validates input for factorial analytics, which never expand the factorial.
+     * 
+     * @param number The number to validate
+     * @throws IllegalArgumentException if the input is invalid
+     */
+    public static void validateAnalyticsInput(long number) {
+        validateInput(number, MAX_ANALYTICS_INPUT);
+    }
+    
+    /**
+     * Validates the number of inputs of a batch calculation.
+     * 
+     * @param size The number of inputs
+     * @throws IllegalArgumentException if the batch is empty or too large
+     */
+    public static void validateBatchSize(int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("Batch must contain at least one number");
+        }
+        
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                String.format("Batch too large. Maximum batch size is %d", MAX_BATCH_SIZE)
+            );
+        }
+    }
+    
+    /**
+     * Validates that a batch has no missing entries.
+     * 
+     * @param numbers The inputs of the batch
+     * @throws IllegalArgumentException if an entry is null
+     */
+    public static void validateBatchEntries(List<Integer> numbers) {
+        // Immutable lists reject contains(null), so the entries are checked one by one
+        for (Integer number : numbers) {
+            if (number == null) {
+                throw new IllegalArgumentException("Batch entries must not be empty");
+            }
+        }
+    }
+    
+    /**
+     * Validates the total size of the results of a batch calculation.
+     * Every entry is counted, repeated ones included, since each is rendered.
+     * 
+     * @param numbers The inputs of the batch, already validated individually
+     * @throws IllegalArgumentException if the results would exceed the output limit
+     */
+    public static void validateBatchOutput(List<Integer> numbers) {
+        long digits = 0;
+        for (int number : numbers) {
+            digits += estimateDigits(number);
+        }
+        
+        if (digits > MAX_BATCH_OUTPUT_DIGITS) {
+            throw new IllegalArgumentException(
+                String.format("Batch results too large. Maximum total is %d digits", MAX_BATCH_OUTPUT_DIGITS)
+            );
+        }
+    }
+    
+    /**
+     * Gets the maximum input supported by long-valued strategies.
+     */
+    public static int getMaxSafeFactorial() {
+        return MAX_SAFE_FACTORIAL;
+    }
+    
+    /**
+     * Gets the maximum input supported by arbitrary-precision strategies.
+     */
+    public static int getMaxLargeFactorial() {
+        return MAX_LARGE_FACTORIAL;
+    }
+    
+    /**
+     * Gets the maximum input supported by factorial analytics.
+     */
+    public static long getMaxAnalyticsInput() {
+        return MAX_ANALYTICS_INPUT;
+    }
+    
+    /**
+     * Estimates the decimal digits of n! by Stirling's formula, which is accurate
+     * to well under one digit for the inputs a batch accepts.
+     */
+    private static long estimateDigits(int n) {
+        if (n < 2) {
+            return 1;
+        }
+        double log = n * Math.log(n) - n + 0.5 * Math.log(2 * Math.PI * n);
+        return (long) (log / Math.log(10)) + 1;
+    }
+    
+    private static void validateInput(long number, long maximum) {
         if (number < 0) {
             throw new IllegalArgumentException("Factorial is not defined for negative numbers");
         }
         
-        if (number > MAX_SAFE_FACTORIAL) {
+        if (number > maximum) {
             throw new IllegalArgumentException(
-                String.format("Input too large. Maximum safe input is %d", MAX_SAFE_FACTORIAL)
+                String.format("Input too large. Maximum safe input is %d", maximum)
             );
         }
     }
-} 
\ No newline at end of file
+}
@@ -2,9 +2,12 @@ package com.techfrompalestine.factorialcalculator.util;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.time.Instant;
 
 /**
  * Utility class for logging calculation operations.
+ * Calculations are logged off the request path by the calculation audit log;
+ * the overloads taking a timestamp record when the calculation completed.
  */
 public class LogCalcUtil {
     
@@ -19,4 +22,29 @@ public class LogCalcUtil {
     public static void logCalc(String strategy, int number) {
         logger.info("Calculation completed using {} strategy for number: {}", strategy, number);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Logs a calculation operation that completed at the given time.
+     * 
+     * @param strategy The strategy used for calculation
+     * @param number The number that was calculated
+     * @param epochMillis When the calculation completed
+     */
+    public static void logCalc(String strategy, int number, long epochMillis) {
+        logger.info("Calculation completed using {} strategy for number: {} at {}", 
+                   strategy, number, Instant.ofEpochMilli(epochMillis));
+    }
+    
+    /**
+     * Logs a batch calculation operation that completed at the given time.
+     * 
+     * @param strategy The strategy used for calculation
+     * @param count The number of inputs in the batch
+     * @param largest The largest number that was calculated
+     * @param epochMillis When the calculation completed
+     */
+    public static void logBatchCalc(String strategy, int count, int largest, long epochMillis) {
+        logger.info("Batch calculation completed using {} strategy for {} numbers up to: {} at {}", 
+                   strategy, count, largest, Instant.ofEpochMilli(epochMillis));
+    }
+}
@@ -0,0 +1,26 @@
+function showLoading() {
+    document.getElementById('loading').style.display = 'block';
+    // Hide result and error while loading
+    const result = document.getElementById('result');
+    const batchResult = document.getElementById('batch-result');
+    const resultLink = document.getElementById('result-link');
+    const error = document.getElementById('error');
+    if (result) result.style.display = 'none';
+    if (batchResult) batchResult.style.display = 'none';
+    if (resultLink) resultLink.style.display = 'none';
+    if (error) error.style.display = 'none';
+}
+
+function hideLoading() {
+    document.getElementById('loading').style.display = 'none';
+}
+
+// Show loading when a form is submitted
+document.querySelectorAll('.calculator-form').forEach(function(form) {
+    form.addEventListener('submit', showLoading);
+});
+
+// Make title clickable
+document.querySelector('.app-title').addEventListener('click', function() {
+    window.location.href = '/';
+});
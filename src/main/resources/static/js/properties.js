@@ -0,0 +1,4 @@
+// Make title clickable to return to main page
+document.querySelector('.app-title').addEventListener('click', function() {
+    window.location.href = '/';
+});
@@ -0,0 +1,60 @@
+package com.techfrompalestine.factorialcalculator.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticResourceConfigIT {
+
+    private static final Pattern STYLESHEET = Pattern.compile("href=\"(/css/index-[0-9a-f]{32}\\.css)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void mainPage_LinksContentHashedStylesheet() throws Exception {
+        String page = mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString();
+
+        assertTrue(STYLESHEET.matcher(page).find(), "stylesheet link is not versioned");
+        assertTrue(page.contains("src=\"/js/index-"), "script link is not versioned");
+        assertTrue(!page.contains("<style>"), "styles are still inlined");
+    }
+
+    @Test
+    void versionedStylesheet_WithGzip_ServesPrecompressedImmutableVariant() throws Exception {
+        String page = mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString();
+        Matcher matcher = STYLESHEET.matcher(page);
+        assertTrue(matcher.find());
+
+        mockMvc.perform(get(matcher.group(1)).header("Accept-Encoding", "gzip, deflate"))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Content-Encoding", "gzip"))
+               .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+               .andExpect(header().string("Content-Type", containsString("text/css")))
+               .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    void versionedStylesheet_WithoutAcceptEncoding_ServesPlainFile() throws Exception {
+        String page = mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString();
+        Matcher matcher = STYLESHEET.matcher(page);
+        assertTrue(matcher.find());
+
+        mockMvc.perform(get(matcher.group(1)))
+               .andExpect(status().isOk())
+               .andExpect(header().doesNotExist("Content-Encoding"))
+               .andExpect(content().string(containsString("box-sizing: border-box;")));
+    }
+}
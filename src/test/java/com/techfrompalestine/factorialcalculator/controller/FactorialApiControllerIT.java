@@ -0,0 +1,158 @@
+package com.techfrompalestine.factorialcalculator.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.factorial.strategy=prime-swing")
+@AutoConfigureMockMvc
+class FactorialApiControllerIT {
+
+    private static final long DELAY_TIMEOUT_MS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void calculateFactorial_WithValidInput_ReturnsJson() throws Exception {
+        mockMvc.perform(asyncDispatch(awaitDelay(get("/api/v1/factorial/25"))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.number").value(25))
+               .andExpect(jsonPath("$.result").value("15511210043330985984000000"))
+               .andExpect(jsonPath("$.strategy").value("prime-swing"));
+    }
+
+    @Test
+    void calculateFactorial_WithHeaderToken_ValidatesThatToken() throws Exception {
+        mockMvc.perform(asyncDispatch(awaitDelay(get("/api/v1/factorial/5")
+                                                     .header("X-Connection-Token", "test-token-123"))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.result").value("120"));
+        mockMvc.perform(asyncDispatch(awaitDelay(get("/api/v1/factorial/5")
+                                                     .header("X-Connection-Token", "stolen-token"))))
+               .andExpect(status().isUnauthorized())
+               .andExpect(jsonPath("$.status").value(401));
+    }
+
+    @Test
+    void calculateFactorial_WithInvalidInput_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/factorial/-3"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.status").value(400));
+        mockMvc.perform(get("/api/v1/factorial/abc"))
+               .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void calculateFactorials_WithBatch_ReturnsResultsInRequestOrder() throws Exception {
+        mockMvc.perform(asyncDispatch(awaitDelay(post("/api/v1/factorial/batch")
+                   .contentType(MediaType.APPLICATION_JSON)
+                   .content("{\"numbers\": [10, 3, 10]}"))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.results[0].result").value("3628800"))
+               .andExpect(jsonPath("$.results[1].number").value(3))
+               .andExpect(jsonPath("$.results[1].result").value("6"))
+               .andExpect(jsonPath("$.results[2].result").value("3628800"));
+    }
+
+    @Test
+    void calculateFactorial_WithResultTooLargeToInline_PointsToDigits() throws Exception {
+        mockMvc.perform(asyncDispatch(awaitDelay(get("/api/v1/factorial/5000"))))
+               .andExpect(status().isPayloadTooLarge())
+               .andExpect(jsonPath("$.status").value(413))
+               .andExpect(jsonPath("$.error").value(
+                   "Result too large to inline. Stream its digits from /api/v1/factorial/5000/digits"));
+    }
+
+    @Test
+    void calculateFactorials_WithEntryTooLargeToInline_PointsToDigits() throws Exception {
+        mockMvc.perform(asyncDispatch(awaitDelay(post("/api/v1/factorial/batch")
+                   .contentType(MediaType.APPLICATION_JSON)
+                   .content("{\"numbers\": [5, 5000]}"))))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.results[0].result").value("120"))
+               .andExpect(jsonPath("$.results[0].digitsUrl").doesNotExist())
+               .andExpect(jsonPath("$.results[1].result").doesNotExist())
+               .andExpect(jsonPath("$.results[1].digitsUrl").value("/api/v1/factorial/5000/digits"));
+    }
+
+    @Test
+    void calculateFactorials_WithNullEntry_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/factorial/batch")
+                   .contentType(MediaType.APPLICATION_JSON)
+                   .content("{\"numbers\": [1, null, 3]}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.error").value("Batch entries must not be empty"));
+    }
+
+    @Test
+    void analyzeFactorial_WithHugeInput_AnswersWithoutCalculating() throws Exception {
+        mockMvc.perform(get("/api/v1/factorial/1000000000000/analytics")
+                            .param("leadingDigits", "3")
+                            .param("prime", "2", "999999999989"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.digits").value(11565705518104L))
+               .andExpect(jsonPath("$.trailingZeros").value(249999999997L))
+               .andExpect(jsonPath("$.primeExponents[0].exponent").value(999999999987L))
+               .andExpect(jsonPath("$.primeExponents[1].exponent").value(1));
+    }
+
+    @Test
+    void analyzeFactorial_WithComposite_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/factorial/100/analytics").param("prime", "15"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.error").value("15 is not a prime"));
+    }
+
+    @Test
+    void factorizeFactorial_WithValidInput_ListsPrimes() throws Exception {
+        mockMvc.perform(get("/api/v1/factorial/10/factorization"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.factors.length()").value(4))
+               .andExpect(jsonPath("$.factors[0].exponent").value(8))
+               .andExpect(jsonPath("$.factors[3].prime").value(7));
+    }
+
+    @Test
+    void calculateFactorialMod_WithPrimeModulus_ReturnsResidue() throws Exception {
+        mockMvc.perform(get("/api/v1/factorial/1000000005/mod/1000000007"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.modulus").value(1000000007))
+               .andExpect(jsonPath("$.result").value(1));
+        mockMvc.perform(get("/api/v1/factorial/25/mod/0"))
+               .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamFactorial_WithValidInput_StreamsDigits() throws Exception {
+        MvcResult delayed = mockMvc.perform(asyncDispatch(awaitDelay(get("/api/v1/factorial/25/digits"))))
+                                   .andExpect(request().asyncStarted())
+                                   .andReturn();
+        mockMvc.perform(asyncDispatch(delayed))
+               .andExpect(status().isOk())
+               .andExpect(content().string("15511210043330985984000000"));
+    }
+
+    /**
+     * Performs a request whose response is deferred by the simulated latency
+     */
+    private MvcResult awaitDelay(RequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                                   .andExpect(request().asyncStarted())
+                                   .andReturn();
+        started.getAsyncResult(DELAY_TIMEOUT_MS);
+        return started;
+    }
+}
@@ -0,0 +1,87 @@
+package com.techfrompalestine.factorialcalculator.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.factorial.strategy=prime-swing", "app.latency.profile.default=fixed:0"})
+@AutoConfigureMockMvc
+class FactorialControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void showMainPage_RendersPreRenderedFragmentsWithStrongETag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/"))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Cache-Control", "no-cache"))
+               .andExpect(content().string(containsString("Application Information")))
+               .andExpect(content().string(containsString("<span class=\"strategy-badge\">")))
+               .andReturn();
+
+        String etag = result.getResponse().getHeader("ETag");
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\"i-"), etag);
+    }
+
+    @Test
+    void showMainPage_WithMatchingETag_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/")).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/").header("If-None-Match", etag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string("ETag", etag))
+               .andExpect(content().string(""));
+    }
+
+    @Test
+    void showMainPage_WithStaleETag_RendersPage() throws Exception {
+        mockMvc.perform(get("/").header("If-None-Match", "\"i-stale\""))
+               .andExpect(status().isOk())
+               .andExpect(content().string(containsString("Connection Status")));
+    }
+
+    @Test
+    void showProperties_AfterRequest_ChangesETag() throws Exception {
+        String before = mockMvc.perform(get("/properties")).andReturn().getResponse().getHeader("ETag");
+
+        MvcResult started = mockMvc.perform(get("/api/v1/factorial/12")).andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        String after = mockMvc.perform(get("/properties").header("If-None-Match", before))
+               .andExpect(status().isOk())
+               .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void calculateFactorials_WithLargeEntry_LinksToDigitsInsteadOfInlining() throws Exception {
+        MvcResult started = mockMvc.perform(post("/factorial/batch")
+                                                .param("numbers", "5,5000")
+                                                .header("X-Connection-Token", "test-token-123"))
+                                   .andReturn();
+        started.getAsyncResult(5_000);
+
+        mockMvc.perform(asyncDispatch(started))
+               .andExpect(status().isOk())
+               .andExpect(content().string(containsString("5! = 120")))
+               .andExpect(content().string(containsString("5000! has about 16326 digits")))
+               .andExpect(content().string(containsString("/api/v1/factorial/5000/digits")))
+               .andExpect(content().string(not(containsString("5000! = "))));
+    }
+}
@@ -0,0 +1,44 @@
+package com.techfrompalestine.factorialcalculator.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.factorial.strategy=prime-swing", "app.latency.profile.default=fixed:0"})
+@AutoConfigureMockMvc
+class MetricsControllerIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void scrape_AfterRequest_PublishesOpenMetrics() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/factorial/30")).andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/metrics"))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Content-Type", containsString("application/openmetrics-text")))
+               .andExpect(content().string(containsString(
+                   "factorial_requests_total{strategy=\"prime-swing\",size=\"21-999\",outcome=\"success\"} 1\n")))
+               .andExpect(content().string(containsString("# TYPE factorial_response_time_seconds summary\n")))
+               .andExpect(content().string(containsString("factorial_response_time_seconds{quantile=\"0.99\"}")))
+               .andExpect(content().string(containsString("factorial_response_time_seconds_count ")))
+               .andExpect(content().string(containsString("factorial_response_time_seconds_sum ")))
+               .andExpect(content().string(containsString("# TYPE factorial_cache_lookups counter\n")))
+               .andExpect(content().string(containsString(
+                   "factorial_startup_milestone_seconds{milestone=\"first_request_served\"} ")))
+               .andExpect(content().string(containsString("jvm_memory_heap_used_bytes ")))
+               .andExpect(content().string(endsWith("# EOF\n")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.techfrompalestine.factorialcalculator.latency;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DelayProfile.
+ */
+class DelayProfileTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    void parse_WithEachKind_ReturnsMatchingProfile() {
+        assertEquals(new DelayProfile.Fixed(0.25), DelayProfile.parse("fixed:0.25"));
+        assertEquals(new DelayProfile.Uniform(0.1, 0.2), DelayProfile.parse("uniform: 0.1, 0.2"));
+        assertEquals(new DelayProfile.Normal(0.3, 0.05), DelayProfile.parse("NORMAL:0.3,0.05"));
+        assertEquals(new DelayProfile.LogNormal(0.2, 0.5), DelayProfile.parse("lognormal:0.2,0.5"));
+        assertEquals(new DelayProfile.Bimodal(0.1, 2, 0.01), DelayProfile.parse("bimodal:0.1,2,0.01"));
+    }
+
+    @Test
+    void parse_WithMalformedSpec_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> DelayProfile.parse("uniform"));
+        assertThrows(IllegalArgumentException.class, () -> DelayProfile.parse("gamma:1,2"));
+        assertThrows(IllegalArgumentException.class, () -> DelayProfile.parse("uniform:0.1"));
+        assertThrows(IllegalArgumentException.class, () -> DelayProfile.parse("fixed:abc"));
+        assertThrows(IllegalArgumentException.class, () -> DelayProfile.parse("fixed:-1"));
+        assertThrows(IllegalArgumentException.class, () -> DelayProfile.parse("uniform:0.5,0.1"));
+    }
+
+    @Test
+    void sampleSeconds_WithUniform_StaysInRange() {
+        double[] samples = sample(DelayProfile.parse("uniform:0.45,0.55"));
+        assertTrue(samples[0] >= 0.45);
+        assertTrue(samples[SAMPLES - 1] < 0.55);
+    }
+
+    @Test
+    void sampleSeconds_WithNormal_IsCenteredAndNonNegative() {
+        double[] samples = sample(DelayProfile.parse("normal:0.1,0.1"));
+        assertTrue(samples[0] >= 0);
+        assertEquals(0.1, samples[SAMPLES / 2], 0.01);
+    }
+
+    @Test
+    void sampleSeconds_WithLogNormal_HasMedianAndRightTail() {
+        double[] samples = sample(DelayProfile.parse("lognormal:0.2,0.8"));
+        assertEquals(0.2, samples[SAMPLES / 2], 0.02);
+        assertTrue(samples[(int) (SAMPLES * 0.99)] > 4 * 0.2);
+    }
+
+    @Test
+    void sampleSeconds_WithBimodal_SpikesAtConfiguredRate() {
+        double[] samples = sample(DelayProfile.parse("bimodal:0.1,2.0,0.05"));
+        long spikes = Arrays.stream(samples).filter(s -> s > 1).count();
+        assertEquals(0.05, (double) spikes / SAMPLES, 0.01);
+        assertTrue(samples[0] >= 0.09);
+        assertTrue(samples[SAMPLES - 1] <= 2.2);
+    }
+
+    private static double[] sample(DelayProfile profile) {
+        Random random = new Random(42);
+        double[] samples = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = profile.sampleSeconds(random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+}
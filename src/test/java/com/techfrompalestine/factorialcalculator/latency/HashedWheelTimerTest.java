@@ -0,0 +1,65 @@
+package com.techfrompalestine.factorialcalculator.latency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HashedWheelTimer.
+ */
+class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+
+    @AfterEach
+    void stopTimer() {
+        timer.stop();
+    }
+
+    @Test
+    void schedule_WithDelay_NeverFiresEarly() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong firedAt = new AtomicLong();
+        long start = System.nanoTime();
+        timer.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(firedAt.get() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    void schedule_WithDelaysBeyondOneRotation_FiresAll() throws InterruptedException {
+        int count = 1000;
+        CountDownLatch fired = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            timer.schedule(fired::countDown, i % 40, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    void schedule_WithFailingTask_KeepsRunning() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 1, TimeUnit.MILLISECONDS);
+        timer.schedule(fired::countDown, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void schedule_AfterStop_ThrowsException() {
+        timer.stop();
+        assertThrows(IllegalStateException.class, () -> timer.schedule(() -> { }, 1, TimeUnit.MILLISECONDS));
+    }
+}
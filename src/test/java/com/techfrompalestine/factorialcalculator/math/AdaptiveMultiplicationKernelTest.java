@@ -0,0 +1,53 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveMultiplicationKernel.
+ */
+class AdaptiveMultiplicationKernelTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void multiply_AboveThresholds_MatchesBigInteger() {
+        AdaptiveMultiplicationKernel kernel = new AdaptiveMultiplicationKernel(pool, false, "", 1 << 12, 1 << 16);
+        Random random = new Random(3);
+        for (int bits : new int[] {1 << 10, 1 << 14, 1 << 18}) {
+            BigInteger a = new BigInteger(bits, random);
+            BigInteger b = new BigInteger(bits, random);
+            assertEquals(a.multiply(b), kernel.multiply(a, b), "Mismatch at " + bits + " bits");
+        }
+    }
+
+    @Test
+    void initialize_WithStoredTuning_SkipsMeasurement() throws Exception {
+        Path tuningFile = directory.resolve("tuning.properties");
+        AdaptiveMultiplicationKernel tuned = new AdaptiveMultiplicationKernel(pool, true, tuningFile.toString(),
+                                                                              1 << 20, 1 << 23);
+        tuned.storeTuning();
+        assertTrue(Files.exists(tuningFile));
+
+        AdaptiveMultiplicationKernel restarted = new AdaptiveMultiplicationKernel(pool, true, tuningFile.toString(),
+                                                                                  1, 1);
+        restarted.initialize();
+        assertEquals(tuned.getParallelThresholdBits(), restarted.getParallelThresholdBits());
+        assertEquals(tuned.getNttThresholdBits(), restarted.getNttThresholdBits());
+    }
+}
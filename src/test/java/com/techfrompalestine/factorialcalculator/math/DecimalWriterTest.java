@@ -0,0 +1,66 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DecimalWriter.
+ */
+class DecimalWriterTest {
+
+    private static String write(BigInteger value, int chunkBytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DecimalWriter.write(value, out, chunkBytes);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void write_WithSmallValues_MatchesToString() throws IOException {
+        for (String value : new String[] {"0", "7", "-42", "999999999999999999", "1000000000000000000",
+                                          "1000000000000000000000000000000000000", "-10000000000000000000"}) {
+            assertEquals(value, write(new BigInteger(value), 64));
+        }
+    }
+
+    @Test
+    void write_WithRandomLargeValues_MatchesToString() throws IOException {
+        Random random = new Random(11);
+        for (int bits = 60; bits <= 200_000; bits = bits * 2 + 7) {
+            BigInteger value = new BigInteger(bits, random);
+            assertEquals(value.toString(), write(value, 100), "Mismatch at " + bits + " bits");
+        }
+    }
+
+    @Test
+    void write_WithFactorial_MatchesToString() throws IOException {
+        BigInteger value = ProductTree.product(1, 5000);
+        assertEquals(value.toString(), write(value, 8192));
+    }
+
+    @Test
+    void write_FromConcurrentThreads_SharesPowersConsistently() throws Exception {
+        // Larger than the other tests' values, so the threads race to add new levels
+        BigInteger value = new BigInteger(1 << 20, new Random(13));
+        String expected = value.toString();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = executor.invokeAll(
+                    List.of(() -> write(value, 8192), () -> write(value, 8192),
+                            () -> write(value, 8192), () -> write(value, 8192)));
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import org.junit.jupiter.api.Test;
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MontgomeryModulus.
+ */
+class MontgomeryModulusTest {
+
+    private static final long[] MODULI = {3, 97, 1_000_000_007, 3_486_784_401L, (1L << 61) - 1, Long.MAX_VALUE};
+
+    @Test
+    void multiplyResidues_WithRandomOperands_MatchesBigInteger() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (long modulus : MODULI) {
+            MontgomeryModulus arithmetic = new MontgomeryModulus(modulus);
+            BigInteger m = BigInteger.valueOf(modulus);
+            for (int i = 0; i < 1000; i++) {
+                long a = random.nextLong(modulus);
+                long b = random.nextLong(modulus);
+                long expected = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(m).longValue();
+                assertEquals(expected, arithmetic.multiplyResidues(a, b), a + " * " + b + " mod " + modulus);
+                assertEquals(a, arithmetic.fromMontgomery(arithmetic.toMontgomery(a)));
+            }
+        }
+    }
+
+    @Test
+    void pow_WithLargeExponent_MatchesBigInteger() {
+        for (long modulus : MODULI) {
+            MontgomeryModulus arithmetic = new MontgomeryModulus(modulus);
+            long expected = BigInteger.TWO.modPow(BigInteger.valueOf(123_456_789), BigInteger.valueOf(modulus))
+                                          .longValue();
+            assertEquals(expected, arithmetic.fromMontgomery(arithmetic.pow(arithmetic.toMontgomery(2), 123_456_789)));
+        }
+    }
+
+    @Test
+    void multiply_FromPowerOfR_LeavesProductRepresentation() {
+        MontgomeryModulus arithmetic = new MontgomeryModulus(1_000_000_007);
+        long product = arithmetic.powerOfR(10);
+        for (long i = 1; i <= 10; i++) {
+            product = arithmetic.multiply(product, i);
+        }
+        assertEquals(3_628_800, arithmetic.fromMontgomery(product));
+    }
+
+    @Test
+    void constructor_WithEvenModulus_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new MontgomeryModulus(1L << 40));
+        assertThrows(IllegalArgumentException.class, () -> new MontgomeryModulus(1));
+    }
+}
@@ -0,0 +1,39 @@
+package com.techfrompalestine.factorialcalculator.math;
+
+import org.junit.jupiter.api.Test;
+import java.math.BigInteger;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NttMultiplier.
+ */
+class NttMultiplierTest {
+
+    @Test
+    void multiply_WithRandomOperands_MatchesBigInteger() {
+        Random random = new Random(7);
+        for (int bits = 1; bits <= 1 << 18; bits = bits * 3 / 2 + 1) {
+            BigInteger a = new BigInteger(bits, random);
+            BigInteger b = new BigInteger(bits / 2 + 1, random);
+            assertEquals(a.multiply(b), NttMultiplier.multiply(a, b, false), "Mismatch at " + bits + " bits");
+            assertEquals(a.multiply(b), NttMultiplier.multiply(a, b, true), "Parallel mismatch at " + bits + " bits");
+        }
+    }
+
+    @Test
+    void multiply_WithSignsAndZero_MatchesBigInteger() {
+        BigInteger a = new BigInteger("-123456789012345678901234567890");
+        BigInteger b = new BigInteger("987654321098765432109876543210");
+        assertEquals(a.multiply(b), NttMultiplier.multiply(a, b, false));
+        assertEquals(a.multiply(a), NttMultiplier.multiply(a, a, false));
+        assertEquals(BigInteger.ZERO, NttMultiplier.multiply(a, BigInteger.ZERO, false));
+    }
+
+    @Test
+    void multiply_WithFactorialSizedOperands_MatchesBigInteger() {
+        BigInteger a = ProductTree.product(2, 20_000);
+        BigInteger b = ProductTree.product(20_001, 40_000);
+        assertEquals(a.multiply(b), NttMultiplier.multiply(a, b, true));
+    }
+}
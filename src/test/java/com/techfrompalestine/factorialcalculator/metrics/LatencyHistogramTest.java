@@ -0,0 +1,100 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+class LatencyHistogramTest {
+
+    private static final long HOUR_NANOS = 3_600_000_000_000L;
+
+    @Test
+    void valueAtPercentile_WithSmallValues_IsExact() {
+        LatencyHistogram histogram = new LatencyHistogram(HOUR_NANOS, 2);
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.getTotalCount());
+        assertEquals(5050, histogram.getTotalValue());
+        assertEquals(50, snapshot.valueAtPercentile(50));
+        assertEquals(99, snapshot.valueAtPercentile(99));
+        assertEquals(100, snapshot.valueAtPercentile(100));
+        assertEquals(100, snapshot.getMaxValue());
+    }
+
+    @Test
+    void valueAtPercentile_WithRandomValues_IsWithinPrecision() {
+        for (int digits = 1; digits <= 3; digits++) {
+            LatencyHistogram histogram = new LatencyHistogram(HOUR_NANOS, digits);
+            Random random = new Random(digits);
+            long[] values = new long[50_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (long) (Math.exp(random.nextGaussian() * 2) * 200_000_000L);
+                histogram.record(values[i]);
+            }
+            Arrays.sort(values);
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            double tolerance = Math.pow(10, -digits);
+
+            for (double percentile : new double[] {50, 90, 99, 99.9}) {
+                long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+                long estimate = snapshot.valueAtPercentile(percentile);
+                assertTrue(estimate >= exact, "Percentile " + percentile + " understated");
+                assertTrue(estimate <= exact * (1 + tolerance), "Percentile " + percentile + " too coarse");
+            }
+        }
+    }
+
+    @Test
+    void record_AboveHighestTrackableValue_IsClamped() {
+        LatencyHistogram histogram = new LatencyHistogram(1_000_000, 2);
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.valueAtPercentile(50));
+        assertTrue(snapshot.getMaxValue() >= 1_000_000);
+        assertTrue(snapshot.getMaxValue() <= 1_010_000);
+    }
+
+    @Test
+    void merge_WithTwoSnapshots_CombinesCounts() {
+        LatencyHistogram fast = new LatencyHistogram(HOUR_NANOS, 2);
+        LatencyHistogram slow = new LatencyHistogram(HOUR_NANOS, 2);
+        for (int i = 0; i < 90; i++) {
+            fast.record(1_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.record(1_000_000);
+        }
+
+        LatencyHistogram.Snapshot merged = fast.snapshot().merge(slow.snapshot());
+        assertEquals(100, merged.getTotalCount());
+        assertTrue(merged.valueAtPercentile(90) < 1_010);
+        assertTrue(merged.valueAtPercentile(91) >= 1_000_000);
+    }
+
+    @Test
+    void merge_WithDifferentPrecision_ThrowsException() {
+        LatencyHistogram.Snapshot a = new LatencyHistogram(HOUR_NANOS, 2).snapshot();
+        LatencyHistogram.Snapshot b = new LatencyHistogram(HOUR_NANOS, 3).snapshot();
+        assertThrows(IllegalArgumentException.class, () -> a.merge(b));
+    }
+
+    @Test
+    void valueAtPercentile_WhenEmptyOrReset_ReturnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram(HOUR_NANOS, 2);
+        assertEquals(0, histogram.snapshot().valueAtPercentile(99));
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getTotalValue());
+        assertEquals(0, histogram.snapshot().valueAtPercentile(99));
+    }
+}
@@ -0,0 +1,85 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OpenMetricsWriter.
+ */
+class OpenMetricsWriterTest {
+
+    @Test
+    void sample_WithNumbers_FormatsWithoutTrailingZeros() {
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        writer.sample("a", 0L);
+        writer.sample("b", -1234567890123L);
+        writer.sample("c", 0.25);
+        writer.sample("d", 3.0);
+        writer.sample("e", -0.0000026);
+        writer.sample("f", 1.0e-9);
+        writer.sample("g", Double.NaN);
+        writer.sample("h", Double.POSITIVE_INFINITY);
+        writer.sample("i", 1.0e300);
+
+        assertEquals("a 0\nb -1234567890123\nc 0.25\nd 3\ne -0.000003\nf 0\ng NaN\nh +Inf\ni 1.0E300\n", 
+                     text(writer));
+    }
+
+    @Test
+    void family_WithLabelledSamples_WritesExposition() {
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        writer.family("requests", "counter", "Requests\\served");
+        writer.sample("requests_total", "strategy", "prime-swing", "size", "0-20", "outcome", "say \"hi\"\n", 7L);
+        writer.end();
+
+        assertEquals("# TYPE requests counter\n"
+                     + "# HELP requests Requests\\\\served\n"
+                     + "requests_total{strategy=\"prime-swing\",size=\"0-20\",outcome=\"say \\\"hi\\\"\\n\"} 7\n"
+                     + "# EOF\n", text(writer));
+    }
+
+    @Test
+    void reset_AfterGrowth_ReusesBuffer() {
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        for (int i = 0; i < 5_000; i++) {
+            writer.sample("metric_with_a_long_name", "label", "value", i * 0.5);
+        }
+        assertTrue(writer.size() > 16 * 1024);
+        writer.reset();
+        writer.sample("x", 1L);
+        assertEquals("x 1\n", text(writer));
+    }
+
+    @Test
+    void sample_OnReusedWriter_DoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        for (int warmup = 0; warmup < 20_000; warmup++) {
+            encode(writer);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int round = 0; round < 1_000; round++) {
+            encode(writer);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes for 1000 encodes");
+    }
+
+    private static void encode(OpenMetricsWriter writer) {
+        writer.reset();
+        writer.family("latency_seconds", "summary", "Latency");
+        writer.sample("latency_seconds", "quantile", "0.99", 0.123456);
+        writer.sample("latency_seconds_count", 42L);
+        writer.sample("latency_seconds_sum", 1.5);
+        writer.sample("requests_total", "strategy", "parallel", "size", "100000+", "outcome", "success", 
+                      123_456_789L);
+        writer.end();
+    }
+
+    private static String text(OpenMetricsWriter writer) {
+        return new String(writer.toByteArray(), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,96 @@
+package com.techfrompalestine.factorialcalculator.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RollingWindowStats.
+ */
+class RollingWindowStatsTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final RollingWindowStats stats = new RollingWindowStats(clock::get);
+
+    @Test
+    void window_WithRecentRequests_SummarizesCountRateAndLatency() {
+        for (int second = 0; second < 60; second++) {
+            stats.record(100);
+            stats.record(300);
+            advanceSeconds(1);
+        }
+        advanceSeconds(-1);
+
+        RollingWindowStats.Window minute = stats.window(RollingWindowStats.ONE_MINUTE);
+        assertEquals(120, minute.count());
+        assertEquals(2.0, minute.ratePerSecond(), 1e-9);
+        assertEquals(200.0, minute.meanNanos(), 1e-9);
+        assertEquals(300, minute.maxNanos());
+    }
+
+    @Test
+    void window_AfterRequestsAgeOut_ExcludesThem() {
+        stats.record(1_000);
+        advanceSeconds(61);
+        stats.record(2_000);
+
+        assertEquals(1, stats.window(RollingWindowStats.ONE_MINUTE).count());
+        assertEquals(2, stats.window(RollingWindowStats.FIVE_MINUTES).count());
+
+        advanceSeconds(RollingWindowStats.FIFTEEN_MINUTES);
+        assertEquals(0, stats.window(RollingWindowStats.FIFTEEN_MINUTES).count());
+    }
+
+    @Test
+    void window_WithBucketReusedAfterRotation_CountsOnlyNewSecond() {
+        stats.record(5);
+        advanceSeconds(RollingWindowStats.FIFTEEN_MINUTES);
+        stats.record(7);
+
+        RollingWindowStats.Window window = stats.window(RollingWindowStats.FIFTEEN_MINUTES);
+        assertEquals(1, window.count());
+        assertEquals(7, window.maxNanos());
+    }
+
+    @Test
+    void ewma_WithSteadyTraffic_ConvergesToRateAndLatency() {
+        for (int second = 0; second < 3600; second++) {
+            for (int i = 0; i < 10; i++) {
+                stats.record(50_000_000);
+            }
+            advanceSeconds(1);
+        }
+
+        RollingWindowStats.Ewma ewma = stats.ewma();
+        assertEquals(10.0, ewma.getOneMinuteRate(), 0.01);
+        assertEquals(10.0, ewma.getFifteenMinuteRate(), 0.2);
+        assertEquals(50_000_000, ewma.getFiveMinuteLatencyNanos(), 1);
+    }
+
+    @Test
+    void ewma_AfterLongIdlePeriod_DecaysRates() {
+        for (int second = 0; second < 600; second++) {
+            stats.record(1_000);
+            advanceSeconds(1);
+        }
+        double busy = stats.ewma().getFiveMinuteRate();
+        advanceSeconds(3600);
+
+        RollingWindowStats.Ewma idle = stats.ewma();
+        assertTrue(busy > 0.8);
+        assertTrue(idle.getFiveMinuteRate() < busy * 0.01);
+        assertTrue(idle.getOneMinuteRate() < 1e-10);
+        assertEquals(1_000, idle.getOneMinuteLatencyNanos(), 1e-9);
+    }
+
+    @Test
+    void window_WithInvalidLength_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> stats.window(0));
+        assertThrows(IllegalArgumentException.class, () -> stats.window(901));
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
@@ -0,0 +1,129 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CalculationAuditLog.
+ */
+class CalculationAuditLogTest {
+
+    private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+    private final CalculationAuditLog.EventSink sink = new CalculationAuditLog.EventSink() {
+        @Override
+        public void calculation(String strategy, int number, long epochMillis) {
+            lines.add(strategy + " " + number);
+        }
+
+        @Override
+        public void batch(String strategy, int count, int largest, long epochMillis) {
+            lines.add(strategy + " " + count + " up to " + largest);
+        }
+    };
+
+    @Test
+    void drain_WithQueuedEvents_WritesThemInOrder() {
+        CalculationAuditLog auditLog = new CalculationAuditLog(true, 16, 1.0, 0, 100, 10, sink);
+
+        assertTrue(auditLog.recordCalculation("prime-swing", 1_000_000));
+        assertTrue(auditLog.recordBatch("iterative", 3, 20));
+        assertTrue(auditLog.recordCalculation("iterative", 0));
+
+        assertEquals(3, auditLog.drain());
+        assertEquals(List.of("prime-swing 1000000", "iterative 3 up to 20", "iterative 0"), lines);
+        assertEquals(3, auditLog.getWrittenCount());
+    }
+
+    @Test
+    void record_WhenBufferIsFull_DropsAndCountsEvents() {
+        CalculationAuditLog auditLog = new CalculationAuditLog(true, 4, 1.0, 0, 2, 10, sink);
+
+        for (int i = 0; i < 6; i++) {
+            auditLog.recordCalculation("iterative", i);
+        }
+        assertEquals(2, auditLog.getDroppedCount());
+
+        // Batches are bounded; draining frees slots for new events
+        assertEquals(2, auditLog.drain());
+        assertTrue(auditLog.recordCalculation("iterative", 6));
+        assertEquals(2, auditLog.drain());
+        assertEquals(1, auditLog.drain());
+        assertEquals(List.of("iterative 0", "iterative 1", "iterative 2", "iterative 3", "iterative 6"), lines);
+    }
+
+    @Test
+    void record_WithRateLimit_CountsRejectedEvents() {
+        CalculationAuditLog auditLog = new CalculationAuditLog(true, 64, 1.0, 5, 64, 10, sink);
+
+        int queued = 0;
+        for (int i = 0; i < 20; i++) {
+            queued += auditLog.recordCalculation("iterative", i) ? 1 : 0;
+        }
+
+        // The budget may roll over into a new second once during the loop
+        assertTrue(queued >= 5 && queued <= 10, "queued " + queued);
+        assertEquals(20 - queued, auditLog.getRateLimitedCount());
+    }
+
+    @Test
+    void record_WithSampleRate_KeepsAboutThatFraction() {
+        CalculationAuditLog auditLog = new CalculationAuditLog(true, 1 << 14, 0.25, 0, 64, 10, sink);
+
+        for (int i = 0; i < 10_000; i++) {
+            auditLog.recordCalculation("iterative", i);
+        }
+
+        long sampledOut = auditLog.getSampledOutCount();
+        assertTrue(sampledOut > 7_000 && sampledOut < 8_000, "sampled out " + sampledOut);
+        assertEquals(0, auditLog.getDroppedCount());
+    }
+
+    @Test
+    void record_WhenDisabled_QueuesNothing() {
+        CalculationAuditLog auditLog = new CalculationAuditLog(false, 16, 1.0, 0, 16, 10, sink);
+
+        assertFalse(auditLog.recordCalculation("iterative", 5));
+        assertEquals(0, auditLog.drain());
+    }
+
+    @Test
+    void drainThread_WithConcurrentProducers_WritesEveryQueuedEvent() throws Exception {
+        CalculationAuditLog auditLog = new CalculationAuditLog(true, 1 << 16, 1.0, 0, 256, 1, sink);
+        auditLog.initialize();
+        int producers = 4;
+        int eventsPerProducer = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int offset = p * eventsPerProducer;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    auditLog.recordCalculation("parallel", offset + i);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        auditLog.close();
+
+        assertEquals(0, auditLog.getDroppedCount());
+        assertEquals(producers * eventsPerProducer, auditLog.getWrittenCount());
+        assertEquals(producers * eventsPerProducer, lines.stream().distinct().count());
+    }
+}
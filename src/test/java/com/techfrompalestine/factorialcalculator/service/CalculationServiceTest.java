@@ -0,0 +1,84 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.strategy.IterativeFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.ParallelFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.PrimeSwingFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.RecursiveFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.SplitRecursiveFactorialStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CalculationService.
+ */
+class CalculationServiceTest {
+
+    private final PrimeSwingFactorialStrategy reference = new PrimeSwingFactorialStrategy();
+    private ForkJoinPool pool;
+    private FactorialCache cache;
+    private CalculationService service;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        cache = new FactorialCache(pool, MultiplicationKernel.STANDARD,
+                new FactorialCheckpointStore(false, "unused", 0, 0, false), true, 1 << 20);
+        service = new CalculationService(
+                new IterativeFactorialStrategy(),
+                new RecursiveFactorialStrategy(),
+                new SplitRecursiveFactorialStrategy(),
+                reference,
+                new ParallelFactorialStrategy(pool, MultiplicationKernel.STANDARD, 64),
+                cache,
+                MultiplicationKernel.STANDARD,
+                new CalculationAuditLog());
+        ReflectionTestUtils.setField(service, "strategyType", "prime-swing");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void factorials_WithUnsortedDuplicates_ReturnsResultsInRequestOrder() throws InterruptedException {
+        List<BigInteger> results = service.factorials(List.of(300, 5, 1000, 5, 0));
+
+        assertEquals(List.of(reference.calculate(300), BigInteger.valueOf(120), reference.calculate(1000),
+                             BigInteger.valueOf(120), BigInteger.ONE), results);
+        assertEquals(1, cache.getMissCount()); // Only the smallest input is calculated from scratch
+    }
+
+    @Test
+    void factorials_WithLongStrategy_EnforcesStrategyLimit() {
+        ReflectionTestUtils.setField(service, "strategyType", "recursive");
+
+        assertThrows(IllegalArgumentException.class, () -> service.factorials(List.of(5, 21)));
+    }
+
+    @Test
+    void factorials_WithEmptyBatch_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.factorials(List.of()));
+    }
+
+    @Test
+    void factorials_WithNullEntry_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.factorials(Arrays.asList(1, null, 3)));
+    }
+
+    @Test
+    void factorials_WithTooLargeTotalOutput_ThrowsException() {
+        // 1,000,000! alone has 5,565,709 digits and is allowed; twice it is not
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.factorials(List.of(1_000_000, 1_000_000)));
+        assertTrue(e.getMessage().startsWith("Batch results too large"));
+    }
+}
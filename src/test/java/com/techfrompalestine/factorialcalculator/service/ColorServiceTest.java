@@ -0,0 +1,79 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ColorService.
+ */
+class ColorServiceTest {
+
+    @Test
+    void getColorForEnv_WithRepeatedLookups_MatchesUncachedColor() {
+        ColorService service = new ColorService();
+        ColorService uncached = new ColorService("sha256", 0, null, null, null);
+
+        for (String input : new String[] {"dev", "tst", "acc", "prod", "Samet", "1.0.1"}) {
+            String expected = uncached.getColorForEnv(input);
+
+            assertEquals(expected, service.getColorForEnv(input));
+            assertEquals(expected, service.getColorForEnv(input));
+        }
+        assertEquals(0, uncached.getCachedColorCount());
+    }
+
+    @Test
+    void getColorForEnv_WithKnownInputs_KeepsEstablishedColors() {
+        ColorService service = new ColorService();
+
+        // SHA-256("dev") starts with 0xEF (index 17) and SHA-256("prod") with 0x67 (index 7)
+        assertEquals("#9E9E9E", service.getColorForEnv("dev"));
+        assertEquals("#00BCD4", service.getColorForEnv("prod"));
+    }
+
+    @Test
+    void constructor_WithBadges_PrefillsCache() {
+        ColorService service = new ColorService("sha256", 0, "dev", "Samet", "1.0.1");
+
+        assertEquals(3, service.getCachedColorCount());
+        assertEquals(new ColorService().getColorForAuthor("Samet"), service.getColorForAuthor("Samet"));
+    }
+
+    @Test
+    void getColorForVersion_WithManyInputs_StaysWithinCacheBound() {
+        ColorService service = new ColorService("sha256", 8, null, null, null);
+
+        for (int i = 0; i < 100; i++) {
+            service.getColorForVersion("1.0." + i);
+        }
+
+        assertEquals(8, service.getCachedColorCount());
+        assertEquals(new ColorService().getColorForVersion("1.0.99"), service.getColorForVersion("1.0.99"));
+    }
+
+    @Test
+    void getColorForEnv_WithFastMode_ReturnsStablePaletteColor() {
+        ColorService service = new ColorService("fast", 0, null, null, null);
+        Set<String> palette = Set.of(
+            "#F44336", "#E91E63", "#9C27B0", "#673AB7", "#3F51B5", "#2196F3", "#03A9F4", "#00BCD4",
+            "#009688", "#4CAF50", "#8BC34A", "#CDDC39", "#FFEB3B", "#FFC107", "#FF9800", "#FF5722",
+            "#795548", "#9E9E9E", "#607D8B");
+
+        for (String input : new String[] {"dev", "tst", "acc", "prod", "été"}) {
+            String color = service.getColorForEnv(input);
+            assertTrue(palette.contains(color), color);
+            assertEquals(color, service.getColorForEnv(input));
+        }
+    }
+
+    @Test
+    void getColorForEnv_WithNullOrBlankInput_ReturnsFallbackColor() {
+        ColorService service = new ColorService();
+
+        assertEquals("#2196F3", service.getColorForEnv(null));
+        assertEquals("#2196F3", service.getColorForEnv("   "));
+    }
+}
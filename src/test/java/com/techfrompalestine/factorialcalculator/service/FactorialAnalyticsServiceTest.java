@@ -0,0 +1,107 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.dto.FactorialAnalyticsResponse;
+import com.techfrompalestine.factorialcalculator.dto.PrimeExponent;
+import com.techfrompalestine.factorialcalculator.strategy.PrimeSwingFactorialStrategy;
+import org.junit.jupiter.api.Test;
+import java.math.BigInteger;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FactorialAnalyticsService.
+ */
+class FactorialAnalyticsServiceTest {
+
+    private final FactorialAnalyticsService service = new FactorialAnalyticsService(1000);
+    private final PrimeSwingFactorialStrategy reference = new PrimeSwingFactorialStrategy();
+
+    @Test
+    void digitCount_WithSmallAndStirlingInputs_MatchesExactValue() {
+        for (int number : new int[] {0, 1, 5, 199, 200, 201, 1000, 4321, 20000}) {
+            assertEquals(reference.calculate(number).toString().length(), service.digitCount(number),
+                         "digits of " + number + "!");
+        }
+    }
+
+    @Test
+    void digitCount_WithHugeInput_MatchesKnownValue() {
+        assertEquals(5_565_709, service.digitCount(1_000_000));
+        assertEquals(11_565_705_518_104L, service.digitCount(1_000_000_000_000L));
+    }
+
+    @Test
+    void leadingDigits_WithStirlingInput_MatchesExactValue() {
+        for (int number : new int[] {250, 1000, 12345}) {
+            String exact = reference.calculate(number).toString();
+            assertEquals(exact.substring(0, 30), service.leadingDigits(number, 30), "leading digits of " + number + "!");
+        }
+    }
+
+    @Test
+    void leadingDigits_WithShortFactorial_ReturnsAllDigits() {
+        assertEquals("120", service.leadingDigits(5, 10));
+        assertEquals("1", service.leadingDigits(0, 10));
+    }
+
+    @Test
+    void trailingZeros_WithLargeInput_UsesLegendreFormula() {
+        assertEquals(24, service.trailingZeros(100));
+        assertEquals(249_999_999_997L, service.trailingZeros(1_000_000_000_000L));
+    }
+
+    @Test
+    void primeExponent_WithPrime_MatchesExactValue() {
+        BigInteger factorial = reference.calculate(3000);
+        for (long prime : new long[] {2, 3, 7, 53, 2999}) {
+            long exponent = 0;
+            BigInteger remaining = factorial;
+            BigInteger divisor = BigInteger.valueOf(prime);
+            while (remaining.mod(divisor).signum() == 0) {
+                remaining = remaining.divide(divisor);
+                exponent++;
+            }
+            assertEquals(exponent, service.primeExponent(3000, prime), "exponent of " + prime);
+        }
+        assertEquals(0, service.primeExponent(3000, 1_000_000_007));
+    }
+
+    @Test
+    void primeExponent_WithComposite_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.primeExponent(100, 1));
+        assertThrows(IllegalArgumentException.class, () -> service.primeExponent(100, 91));
+        assertThrows(IllegalArgumentException.class, () -> service.primeExponent(100, 3_215_031_751L));
+    }
+
+    @Test
+    void primeFactorization_WithSmallInput_MultipliesToFactorial() {
+        BigInteger product = BigInteger.ONE;
+        for (PrimeExponent factor : service.primeFactorization(1000)) {
+            product = product.multiply(BigInteger.valueOf(factor.prime()).pow((int) factor.exponent()));
+        }
+        assertEquals(reference.calculate(1000), product);
+        assertEquals(List.of(), service.primeFactorization(1));
+    }
+
+    @Test
+    void primeFactorization_AboveLimit_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.primeFactorization(1001));
+    }
+
+    @Test
+    void describe_WithOutOfRangeInput_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.describe(-1, 10, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.describe(1_000_000_000_001L, 10, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.describe(100, 31, List.of()));
+    }
+
+    @Test
+    void describe_WithPrimes_ReturnsAllProperties() {
+        FactorialAnalyticsResponse response = service.describe(25, 5, List.of(2L, 5L));
+
+        assertEquals(26, response.digits());
+        assertEquals(6, response.trailingZeros());
+        assertEquals("15511", response.leadingDigits());
+        assertEquals(List.of(new PrimeExponent(2, 22), new PrimeExponent(5, 6)), response.primeExponents());
+    }
+}
@@ -0,0 +1,110 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.strategy.PrimeSwingFactorialStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FactorialCache.
+ */
+class FactorialCacheTest {
+
+    private final PrimeSwingFactorialStrategy strategy = new PrimeSwingFactorialStrategy();
+    private final AtomicInteger fullCalculations = new AtomicInteger();
+    private final FactorialCheckpointStore disabledStore = new FactorialCheckpointStore(false, "unused", 0, 0, false);
+    private ForkJoinPool pool;
+    private FactorialCache cache;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        cache = new FactorialCache(pool, MultiplicationKernel.STANDARD, disabledStore, true, 1 << 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private BigInteger calculate(int number) {
+        fullCalculations.incrementAndGet();
+        return strategy.calculate(number);
+    }
+
+    @Test
+    void getOrCompute_WithRepeatedInput_ReturnsCachedValue() {
+        BigInteger first = cache.getOrCompute(1000, this::calculate);
+        BigInteger second = cache.getOrCompute(1000, this::calculate);
+
+        assertSame(first, second);
+        assertEquals(1, fullCalculations.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void getOrCompute_WithNearbyInput_ExtendsCheckpoint() {
+        cache.getOrCompute(1000, this::calculate);
+        BigInteger extended = cache.getOrCompute(1001, this::calculate);
+
+        assertEquals(strategy.calculate(1001), extended);
+        assertEquals(1, fullCalculations.get());
+        assertEquals(1, cache.getExtensionCount());
+    }
+
+    @Test
+    void getOrCompute_WithNearbyInput_ExtendsOnFactorialPool() {
+        Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+        MultiplicationKernel recording = (a, b) -> {
+            ForkJoinPool current = ForkJoinTask.getPool();
+            pools.add(current != null ? current : ForkJoinPool.commonPool());
+            return a.multiply(b);
+        };
+        FactorialCache pooled = new FactorialCache(pool, recording, disabledStore, true, 1 << 20);
+        pooled.put(1000, strategy.calculate(1000));
+
+        assertEquals(strategy.calculate(1100), pooled.getOrCompute(1100, this::calculate));
+        assertEquals(Set.of(pool), pools);
+    }
+
+    @Test
+    void getOrCompute_WithDistantCheckpoint_CalculatesFully() {
+        cache.getOrCompute(10, this::calculate);
+        cache.getOrCompute(1000, this::calculate);
+
+        assertEquals(2, fullCalculations.get());
+        assertEquals(0, cache.getExtensionCount());
+    }
+
+    @Test
+    void put_WhenBudgetExceeded_EvictsLeastRecentlyUsed() {
+        FactorialCache small = new FactorialCache(pool, MultiplicationKernel.STANDARD, disabledStore, true, 1000);
+        small.put(200, strategy.calculate(200));
+        small.put(300, strategy.calculate(300));
+        small.floorCheckpoint(200); // Touch 200 so 300 is the eldest
+        small.put(400, strategy.calculate(400));
+
+        assertTrue(small.getCurrentBytes() <= 1000);
+        assertEquals(1, small.getEvictionCount());
+        assertEquals(200, small.floorCheckpoint(350).getKey());
+    }
+
+    @Test
+    void getOrCompute_WhenDisabled_AlwaysCalculates() {
+        FactorialCache disabled = new FactorialCache(pool, MultiplicationKernel.STANDARD, disabledStore, false, 1 << 20);
+        disabled.getOrCompute(50, this::calculate);
+        disabled.getOrCompute(50, this::calculate);
+
+        assertEquals(2, fullCalculations.get());
+        assertEquals(0, disabled.getEntryCount());
+    }
+}
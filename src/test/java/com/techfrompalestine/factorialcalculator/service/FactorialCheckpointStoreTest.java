@@ -0,0 +1,90 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.strategy.PrimeSwingFactorialStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FactorialCheckpointStore.
+ */
+class FactorialCheckpointStoreTest {
+
+    private final PrimeSwingFactorialStrategy strategy = new PrimeSwingFactorialStrategy();
+
+    @TempDir
+    Path directory;
+
+    private FactorialCheckpointStore open(Path segment) {
+        FactorialCheckpointStore store = new FactorialCheckpointStore(true, segment.toString(), 0, 1 << 20, false);
+        store.initialize();
+        return store;
+    }
+
+    @Test
+    void load_AfterReopen_ReturnsStoredCheckpoints() throws InterruptedException {
+        Path segment = directory.resolve("checkpoints.seg");
+        FactorialCheckpointStore store = open(segment);
+        store.saveAsync(500, strategy.calculate(500));
+        store.saveAsync(1000, strategy.calculate(1000));
+        store.awaitPendingWrites();
+        assertEquals(strategy.calculate(500), store.load(500)); // Read through the live mapping
+        store.close();
+
+        FactorialCheckpointStore reopened = open(segment);
+        assertEquals(2, reopened.getCheckpointCount());
+        assertEquals(1000, reopened.floorCheckpoint(1500));
+        assertEquals(strategy.calculate(1000), reopened.load(1000));
+        assertNull(reopened.load(700));
+        reopened.close();
+    }
+
+    @Test
+    void initialize_WithTornTail_SkipsIncompleteRecord() throws Exception {
+        Path segment = directory.resolve("torn.seg");
+        FactorialCheckpointStore store = open(segment);
+        store.saveAsync(300, strategy.calculate(300));
+        store.saveAsync(600, strategy.calculate(600));
+        store.awaitPendingWrites();
+        store.close();
+
+        // Simulate a crash in the middle of the second record
+        long size = Files.size(segment);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(size - 10);
+        }
+
+        FactorialCheckpointStore reopened = open(segment);
+        assertEquals(1, reopened.getCheckpointCount());
+        assertEquals(strategy.calculate(300), reopened.load(300));
+        assertEquals(-1, reopened.floorCheckpoint(299));
+        reopened.close();
+    }
+
+    @Test
+    void initialize_WithCorruptRecord_SkipsOnlyThatRecord() throws Exception {
+        Path segment = directory.resolve("corrupt.seg");
+        FactorialCheckpointStore store = open(segment);
+        store.saveAsync(300, strategy.calculate(300));
+        store.saveAsync(600, strategy.calculate(600));
+        store.awaitPendingWrites();
+        store.close();
+
+        // Flip a byte inside the first record's magnitude
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(20);
+            int original = file.read();
+            file.seek(20);
+            file.write(original ^ 0xFF);
+        }
+
+        FactorialCheckpointStore reopened = open(segment);
+        assertEquals(1, reopened.getCorruptRecordCount());
+        assertNull(reopened.load(300));
+        assertEquals(strategy.calculate(600), reopened.load(600));
+        reopened.close();
+    }
+}
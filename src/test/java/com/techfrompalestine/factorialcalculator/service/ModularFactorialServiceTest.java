@@ -0,0 +1,126 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ModularFactorialService.
+ */
+class ModularFactorialServiceTest {
+
+    private static final long MERSENNE_61 = (1L << 61) - 1;
+
+    private ForkJoinPool pool;
+    private ModularFactorialService service;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        service = new ModularFactorialService(pool, 1024, 1_000_000, 2, 4, List.of(), 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static long reference(long number, long modulus) {
+        BigInteger m = BigInteger.valueOf(modulus);
+        BigInteger result = BigInteger.ONE.mod(m);
+        for (long i = 2; i <= number; i++) {
+            result = result.multiply(BigInteger.valueOf(i)).mod(m);
+        }
+        return result.longValue();
+    }
+
+    @Test
+    void factorialMod_WithVariousModuli_MatchesNaiveProduct() {
+        long[] moduli = {97, 1_000_000_007, 1_000_000_008, 3_486_784_401L, 1L << 62 | 6, MERSENNE_61};
+        for (long modulus : moduli) {
+            for (long number : new long[] {0, 1, 5, 63, 64, 100, 1023, 1024, 5000}) {
+                assertEquals(reference(number, modulus), service.factorialMod(number, modulus),
+                             number + "! mod " + modulus);
+            }
+        }
+    }
+
+    @Test
+    void factorialMod_WithInputAtLeastModulus_ReturnsZero() {
+        assertEquals(0, service.factorialMod(97, 97));
+        assertEquals(0, service.factorialMod(1_000_000_000_000L, 1_000_000_007));
+        assertEquals(0, service.factorialMod(5, 1));
+        assertEquals(3, service.getZeroShortcutCount());
+    }
+
+    @Test
+    void factorialMod_NearPrime_UsesWilsonsTheorem() {
+        long prime = 1_000_003;
+        assertEquals(prime - 1, service.factorialMod(prime - 1, prime));
+        assertEquals(1, service.factorialMod(prime - 2, prime));
+        assertEquals(reference(prime - 3000, prime), service.factorialMod(prime - 3000, prime));
+        assertEquals(1, service.factorialMod(MERSENNE_61 - 2, MERSENNE_61));
+        assertEquals(4, service.getWilsonReflectionCount());
+    }
+
+    @Test
+    void factorialMod_AfterEarlierQuery_RestartsFromCheckpoint() {
+        long prime = 998_244_353;
+        service.factorialMod(200_000, prime);
+        assertEquals(0, service.getCheckpointRestartCount());
+
+        assertEquals(reference(200_500, prime), service.factorialMod(200_500, prime));
+        assertEquals(1, service.getCheckpointRestartCount());
+        assertTrue(service.getCheckpointCount() >= 200_000 / 1024);
+    }
+
+    @Test
+    void factorialMod_WithTooManyMultiplications_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.factorialMod(2_000_000, MERSENNE_61));
+        assertThrows(IllegalArgumentException.class, () -> service.factorialMod(-1, 7));
+        assertThrows(IllegalArgumentException.class, () -> service.factorialMod(5, 0));
+    }
+
+    @Test
+    void factorialMod_WithMoreModuliThanTables_EvictsLeastRecentlyUsed() {
+        ModularFactorialService small = new ModularFactorialService(pool, 1024, 1_000_000, 2, 1, List.of(), 0);
+        small.factorialMod(10_000, 1_000_003);
+        small.factorialMod(10_000, 999_983);
+        assertEquals(1, small.getTableEvictionCount());
+
+        // The table of the first modulus is gone, so the query starts from 1 again
+        assertEquals(reference(10_500, 1_000_003), small.factorialMod(10_500, 1_000_003));
+        assertEquals(0, small.getCheckpointRestartCount());
+    }
+
+    @Test
+    void factorialMod_WithConfiguredPrime_KeepsItsTable() {
+        long prime = 998_244_353;
+        ModularFactorialService reserved = new ModularFactorialService(pool, 1024, 1_000_000, 2, 1, 
+                                                                       List.of(prime), 0);
+        reserved.factorialMod(10_000, prime);
+        reserved.factorialMod(10_000, 1_000_003);
+        reserved.factorialMod(10_000, 999_983);
+
+        assertEquals(reference(10_500, prime), reserved.factorialMod(10_500, prime));
+        assertEquals(1, reserved.getCheckpointRestartCount());
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ModularFactorialService(pool, 1024, 1_000_000, 2, 1, List.of(15L), 0));
+    }
+
+    @Test
+    void factorialMod_WithoutFreePermit_RejectsProducts() {
+        ModularFactorialService busy = new ModularFactorialService(pool, 1024, 1_000_000, 0, 4, List.of(), 0);
+
+        assertThrows(RejectedExecutionException.class, () -> busy.factorialMod(10_000, 1_000_003));
+        assertEquals(1, busy.getRejectionCount());
+        // Shortcuts need no product
+        assertEquals(0, busy.factorialMod(1_000_003, 1_000_003));
+        assertEquals(1_000_002, busy.factorialMod(1_000_002, 1_000_003));
+    }
+}
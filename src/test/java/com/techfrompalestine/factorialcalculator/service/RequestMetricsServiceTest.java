@@ -0,0 +1,88 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import com.techfrompalestine.factorialcalculator.metrics.InputSizeBucket;
+import com.techfrompalestine.factorialcalculator.metrics.Outcome;
+import com.techfrompalestine.factorialcalculator.strategy.IterativeFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.ParallelFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.PrimeSwingFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.RecursiveFactorialStrategy;
+import com.techfrompalestine.factorialcalculator.strategy.SplitRecursiveFactorialStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestMetricsService.
+ */
+class RequestMetricsServiceTest {
+
+    private RequestMetricsService createService(String configuredStrategy) {
+        FactorialCache cache = new FactorialCache(ForkJoinPool.commonPool(), MultiplicationKernel.STANDARD,
+                new FactorialCheckpointStore(false, "unused", 0, 0, false), false, 0);
+        CalculationService calculationService = new CalculationService(
+                new IterativeFactorialStrategy(),
+                new RecursiveFactorialStrategy(),
+                new SplitRecursiveFactorialStrategy(),
+                new PrimeSwingFactorialStrategy(),
+                new ParallelFactorialStrategy(ForkJoinPool.commonPool(), MultiplicationKernel.STANDARD, 64),
+                cache,
+                MultiplicationKernel.STANDARD,
+                new CalculationAuditLog());
+        ReflectionTestUtils.setField(calculationService, "strategyType", configuredStrategy);
+        return new RequestMetricsService(calculationService);
+    }
+
+    @Test
+    void record_WithDimensions_CountsEachCellSeparately() {
+        RequestMetricsService service = createService("prime-swing");
+        service.record(10, Outcome.SUCCESS, 100);
+        service.record(15, Outcome.SUCCESS, 300);
+        service.record(50_000, Outcome.SUCCESS, 1_000);
+        service.record(-1, Outcome.VALIDATION_ERROR, 5);
+        service.record("recursive", 5, Outcome.INVALID_TOKEN, 7);
+
+        List<RequestMetricsService.Row> rows = service.snapshot();
+        assertEquals(4, rows.size());
+        assertEquals(new RequestMetricsService.Row("prime-swing", InputSizeBucket.UP_TO_20, Outcome.SUCCESS, 2, 400),
+                     rows.get(0));
+        assertEquals(new RequestMetricsService.Row("prime-swing", InputSizeBucket.UP_TO_20, 
+                                                   Outcome.VALIDATION_ERROR, 1, 5), rows.get(1));
+        assertEquals(InputSizeBucket.UP_TO_99999, rows.get(2).size());
+        assertEquals("recursive", rows.get(3).strategy());
+        assertEquals(Outcome.INVALID_TOKEN, rows.get(3).outcome());
+    }
+
+    @Test
+    void record_WithUnlistedConfiguredStrategy_IsStillCounted() {
+        RequestMetricsService service = createService("custom");
+        service.record(3, Outcome.SUCCESS, 1);
+        service.record("unknown", 3, Outcome.SUCCESS, 1);
+
+        List<RequestMetricsService.Row> rows = service.snapshot();
+        assertEquals(1, rows.size());
+        assertEquals("custom", rows.get(0).strategy());
+    }
+
+    @Test
+    void record_FromConcurrentThreads_LosesNoIncrements() {
+        RequestMetricsService service = createService("iterative");
+        IntStream.range(0, 200_000).parallel().forEach(i -> service.record(i % 30, Outcome.SUCCESS, 2));
+
+        long total = service.snapshot().stream().mapToLong(RequestMetricsService.Row::count).sum();
+        long latency = service.snapshot().stream().mapToLong(RequestMetricsService.Row::latencyNanosSum).sum();
+        assertEquals(200_000, total);
+        assertEquals(400_000, latency);
+    }
+
+    @Test
+    void of_WithBoundaryInputs_ReturnsDecadeBuckets() {
+        assertEquals(InputSizeBucket.UP_TO_20, InputSizeBucket.of(20));
+        assertEquals(InputSizeBucket.UP_TO_999, InputSizeBucket.of(21));
+        assertEquals(InputSizeBucket.UP_TO_9999, InputSizeBucket.of(1_000));
+        assertEquals(InputSizeBucket.ABOVE_99999, InputSizeBucket.of(1_000_000));
+    }
+}
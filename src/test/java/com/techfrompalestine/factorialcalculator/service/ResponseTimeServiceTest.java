@@ -0,0 +1,99 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResponseTimeService.
+ */
+class ResponseTimeServiceTest {
+
+    @Test
+    void getStatistics_WithoutSamples_ReturnsZero() {
+        ResponseTimeService service = new ResponseTimeService(10);
+        assertFalse(service.hasSamples());
+        assertEquals(0, service.getSampleCount());
+        assertEquals(0.0, service.getAverageResponseTime());
+        assertEquals(0.0, service.getMinResponseTime());
+        assertEquals(0.0, service.getMaxResponseTime());
+    }
+
+    @Test
+    void addResponseTime_BeyondCapacity_KeepsMostRecentSamples() {
+        ResponseTimeService service = new ResponseTimeService(3);
+        service.addResponseTime(5.0);
+        assertEquals(5.0, service.getMaxResponseTime(), 1e-9);
+        for (double time : new double[] {0.1, 0.2, 0.3, 0.4}) {
+            service.addResponseTime(time);
+        }
+
+        assertEquals(3, service.getSampleCount());
+        assertEquals(0.3, service.getAverageResponseTime(), 1e-9);
+        assertEquals(0.2, service.getMinResponseTime(), 1e-9);
+        assertEquals(0.4, service.getMaxResponseTime(), 1e-9);
+        assertEquals(new ResponseTimeService.Range(0.2, 0.4), service.getResponseTimeRange());
+    }
+
+    @Test
+    void addResponseTime_WithInvalidValue_ThrowsException() {
+        ResponseTimeService service = new ResponseTimeService();
+        assertThrows(IllegalArgumentException.class, () -> service.addResponseTime(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> service.addResponseTime(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> service.addResponseTime(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void clearSamples_AfterRecording_ResetsStatistics() {
+        ResponseTimeService service = new ResponseTimeService();
+        service.addResponseTime(0.5);
+        service.clearSamples();
+        assertEquals(0, service.getSampleCount());
+        assertEquals(0.0, service.getAverageResponseTime());
+    }
+
+    @Test
+    void addResponseTime_FromConcurrentThreads_KeepsSumConsistent() throws InterruptedException {
+        ResponseTimeService service = new ResponseTimeService(64);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100_000; i++) {
+                    service.addResponseTime(0.25);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(64, service.getSampleCount());
+        assertEquals(0.25, service.getAverageResponseTime(), 1e-9);
+        assertEquals(0.25, service.getMinResponseTime(), 1e-9);
+        assertEquals(0.25, service.getMaxResponseTime(), 1e-9);
+    }
+
+    @Test
+    void getPercentileResponseTime_WithSamples_CoversAllRequests() {
+        ResponseTimeService service = new ResponseTimeService(10);
+        for (int i = 1; i <= 1000; i++) {
+            service.addResponseTime(i / 1000.0);
+        }
+
+        assertEquals(10, service.getSampleCount());
+        assertEquals(1000, service.getHistogramSnapshot().getTotalCount());
+        assertEquals(0.5, service.getPercentileResponseTime(50), 0.5 * 0.01);
+        assertEquals(0.99, service.getPercentileResponseTime(99), 0.99 * 0.01);
+        assertEquals(0.999, service.getPercentileResponseTime(99.9), 0.999 * 0.01);
+    }
+}
@@ -0,0 +1,44 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.service.StartupMilestoneService.Milestone;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StartupMilestoneService.
+ */
+class StartupMilestoneServiceTest {
+
+    @Test
+    void getMillisSinceJvmStart_BeforeMilestone_ReturnsNotReached() {
+        StartupMilestoneService service = new StartupMilestoneService();
+
+        assertFalse(service.isReached(Milestone.FIRST_REQUEST_SERVED));
+        assertEquals(-1, service.getMillisSinceJvmStart(Milestone.FIRST_REQUEST_SERVED));
+    }
+
+    @Test
+    void markRequestServed_WithRepeatedRequests_KeepsFirstTime() throws InterruptedException {
+        StartupMilestoneService service = new StartupMilestoneService();
+
+        service.markRequestServed();
+        long first = service.getMillisSinceJvmStart(Milestone.FIRST_REQUEST_SERVED);
+        Thread.sleep(5);
+        service.markRequestServed();
+
+        assertTrue(first >= 0);
+        assertEquals(first, service.getMillisSinceJvmStart(Milestone.FIRST_REQUEST_SERVED));
+    }
+
+    @Test
+    void onApplicationReady_AfterContextRefreshed_RecordsMilestonesInOrder() {
+        StartupMilestoneService service = new StartupMilestoneService();
+
+        service.onContextRefreshed();
+        service.onApplicationReady();
+
+        assertTrue(service.getMillisSinceJvmStart(Milestone.CONTEXT_REFRESHED)
+                   <= service.getMillisSinceJvmStart(Milestone.APPLICATION_READY));
+    }
+}
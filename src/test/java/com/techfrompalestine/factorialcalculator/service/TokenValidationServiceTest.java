@@ -0,0 +1,138 @@
+package com.techfrompalestine.factorialcalculator.service;
+
+import com.techfrompalestine.factorialcalculator.config.TokenConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenValidationService.
+ */
+class TokenValidationServiceTest {
+
+    private TokenValidationService service;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    void isValid_WithEnvironmentToken_AcceptsOnlyThatToken() {
+        service = newService("", false);
+
+        assertTrue(service.isValid("test-token-123"));
+        assertFalse(service.isValid("test-token-124"));
+        assertFalse(service.isValid("test-token-12"));
+        assertFalse(service.isValid(""));
+    }
+
+    @Test
+    void isValid_WithoutHeader_FallsBackToConfiguredToken() {
+        service = newService("", false);
+        assertTrue(service.isValid(null));
+
+        TokenValidationService strict = newService("", true);
+        assertFalse(strict.isValid(null));
+    }
+
+    @Test
+    void isValid_WithRepeatedToken_UsesCachedVerdict() {
+        service = newService("", false);
+
+        assertTrue(service.isValid("test-token-123"));
+        assertTrue(service.isValid("test-token-123"));
+        assertFalse(service.isValid("wrong"));
+        assertFalse(service.isValid("wrong"));
+
+        assertEquals(2, service.getCacheMissCount());
+        assertEquals(2, service.getCacheHitCount());
+    }
+
+    @Test
+    void reload_WithRotatedFile_SwapsTokensAndInvalidatesVerdicts() throws Exception {
+        Path file = directory.resolve("tokens.txt");
+        writeTokens(file, "# current tokens", "alpha", "beta");
+        service = newService(file.toString(), false);
+        assertEquals(2, service.getTokenCount());
+        assertTrue(service.isValid("alpha"));
+        assertFalse(service.isValid("gamma"));
+
+        writeTokens(file, "beta", "gamma");
+        assertTrue(service.reload());
+
+        assertFalse(service.isValid("alpha"));
+        assertTrue(service.isValid("beta"));
+        assertTrue(service.isValid("gamma"));
+        // The file watcher may have picked up the change as well
+        assertTrue(service.getReloadCount() >= 1);
+    }
+
+    @Test
+    void reload_WithUndecodableFile_KeepsCurrentTokens() throws Exception {
+        Path file = directory.resolve("tokens.txt");
+        writeTokens(file, "alpha");
+        service = newService(file.toString(), false);
+
+        Files.writeString(file, "not base64!\n");
+        assertFalse(service.reload());
+
+        assertTrue(service.isValid("alpha"));
+        assertTrue(service.getFailedReloadCount() >= 1);
+    }
+
+    @Test
+    void watcher_WhenFileIsReplaced_ReloadsWithoutRestart() throws Exception {
+        Path file = directory.resolve("tokens.txt");
+        writeTokens(file, "alpha");
+        service = newService(file.toString(), false);
+        assertFalse(service.isValid("delta"));
+
+        // Replace the file atomically, as deployment tools do
+        Path staged = directory.resolve("tokens.tmp");
+        writeTokens(staged, "delta");
+        Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!service.isValid("delta") && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(service.isValid("delta"));
+        assertFalse(service.isValid("alpha"));
+    }
+
+    private static TokenValidationService newService(String tokenFile, boolean requireHeader) {
+        TokenConfig tokenConfig = new TokenConfig();
+        ReflectionTestUtils.setField(tokenConfig, "configuredToken", "test-token-123");
+        ReflectionTestUtils.setField(tokenConfig, "currentEnvironment", "dev");
+        tokenConfig.initialize();
+
+        TokenValidationService service = new TokenValidationService(tokenConfig, tokenFile, requireHeader, 64);
+        service.initialize();
+        return service;
+    }
+
+    private static void writeTokens(Path file, String... lines) throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            content.append(line.startsWith("#") ? line 
+                           : Base64.getEncoder().encodeToString(line.getBytes(StandardCharsets.UTF_8)));
+            content.append('\n');
+        }
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,54 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.techfrompalestine.factorialcalculator.math.MultiplicationKernel;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ParallelFactorialStrategy.
+ */
+class ParallelFactorialStrategyTest {
+
+    private ForkJoinPool pool;
+    private ParallelFactorialStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        strategy = new ParallelFactorialStrategy(pool, MultiplicationKernel.STANDARD, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void calculate_WithValidInputs_ReturnsCorrectResults() {
+        // Test cases for key numbers
+        assertEquals(BigInteger.ONE, strategy.calculate(0));      // Base case
+        assertEquals(BigInteger.ONE, strategy.calculate(1));      // First number
+        assertEquals(BigInteger.TWO, strategy.calculate(2));      // Small number
+        assertEquals(BigInteger.valueOf(120), strategy.calculate(5));    // Medium number
+        assertEquals(BigInteger.valueOf(2432902008176640000L), strategy.calculate(20)); // Long limit
+    }
+
+    @Test
+    void calculate_WithLargeInputs_MatchesSequentialStrategy() {
+        PrimeSwingFactorialStrategy reference = new PrimeSwingFactorialStrategy();
+        for (int n : new int[] {17, 33, 1000, 4099, 20000}) {
+            assertEquals(reference.calculate(n), strategy.calculate(n), "Mismatch for " + n + "!");
+        }
+    }
+
+    @Test
+    void calculate_WithInvalidInput_ThrowsException() {
+        // Test invalid input
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(-1));
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(1_000_001));
+    }
+}
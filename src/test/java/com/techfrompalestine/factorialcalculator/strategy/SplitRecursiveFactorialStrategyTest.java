@@ -0,0 +1,48 @@
+package com.techfrompalestine.factorialcalculator.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.math.BigInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SplitRecursiveFactorialStrategy.
+ */
+class SplitRecursiveFactorialStrategyTest {
+
+    private SplitRecursiveFactorialStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new SplitRecursiveFactorialStrategy();
+    }
+
+    @Test
+    void calculate_WithValidInputs_ReturnsCorrectResults() {
+        // Test cases for key numbers
+        assertEquals(BigInteger.ONE, strategy.calculate(0));      // Base case
+        assertEquals(BigInteger.ONE, strategy.calculate(1));      // First number
+        assertEquals(BigInteger.TWO, strategy.calculate(2));      // Small number
+        assertEquals(BigInteger.valueOf(120), strategy.calculate(5));    // Medium number
+        assertEquals(BigInteger.valueOf(2432902008176640000L), strategy.calculate(20)); // Long limit
+        assertEquals(new BigInteger("51090942171709440000"), strategy.calculate(21)); // Beyond long
+    }
+
+    @Test
+    void calculate_WithLargeInputs_MatchesNaiveProduct() {
+        BigInteger expected = BigInteger.ONE;
+        for (int n = 1; n <= 3000; n++) {
+            expected = expected.multiply(BigInteger.valueOf(n));
+            if (n % 97 == 0 || n == 3000) {
+                assertEquals(expected, strategy.calculate(n), "Mismatch for " + n + "!");
+            }
+        }
+    }
+
+    @Test
+    void calculate_WithInvalidInput_ThrowsException() {
+        // Test invalid input
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(-1));
+        assertThrows(IllegalArgumentException.class, () -> strategy.calculate(1_000_001));
+    }
+}